@@ -0,0 +1,9 @@
+-- OAuth2 sign-up lookups
+-- (provider, provider_id) lookups become index-only and concurrent sign-ups
+-- for the same provider account are serialized by the unique constraint.
+-- Regular users keep provider/provider_id NULL, which never conflicts.
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_provider_provider_id ON users(provider, provider_id);
+
+-- Serves the username prefix scan used to allocate {provider}_{providerId}_{n}
+CREATE INDEX IF NOT EXISTS idx_users_username_pattern ON users(username varchar_pattern_ops);
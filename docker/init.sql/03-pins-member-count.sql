@@ -0,0 +1,12 @@
+-- Pin member count
+-- Joins increment current_member_count with a conditional UPDATE
+-- (... WHERE current_member_count < 8), so the column is the join gate.
+
+-- Pins created before the fix counted the owner twice; recount from members.
+UPDATE pins p
+SET current_member_count = (SELECT COUNT(*) FROM members m WHERE m.pin_id = p.id)
+WHERE current_member_count <> (SELECT COUNT(*) FROM members m WHERE m.pin_id = p.id);
+
+ALTER TABLE pins DROP CONSTRAINT IF EXISTS chk_pins_current_member_count;
+ALTER TABLE pins ADD CONSTRAINT chk_pins_current_member_count
+    CHECK (current_member_count BETWEEN 0 AND 8);
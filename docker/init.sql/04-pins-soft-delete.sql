@@ -0,0 +1,7 @@
+-- Pin soft delete
+-- Pins with a large task/notification history are marked with deleted_at on
+-- owner leave / delete and purged in chunks by a background job.
+ALTER TABLE pins ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+
+-- Only pins waiting to be purged are indexed.
+CREATE INDEX IF NOT EXISTS idx_pins_deleted_at ON pins (deleted_at) WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,12 @@
+-- Task listing index
+-- GET /api/tasks/{pinId} filters by pin (and optionally completed / start
+-- time range) and pages with a keyset on (completed, start_date_time, id),
+-- so the index is read in order and the scan stops at the page limit.
+CREATE INDEX IF NOT EXISTS idx_tasks_pin_completed_start
+    ON tasks (pin_id, completed, start_date_time, id);
+
+-- Covered by the composite index (pin_id prefix).
+DROP INDEX IF EXISTS idx_tasks_pin_id;
+
+-- Two distinct values; never selective enough to be used on its own.
+DROP INDEX IF EXISTS idx_tasks_completed;
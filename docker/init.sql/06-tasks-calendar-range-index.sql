@@ -0,0 +1,12 @@
+-- Task calendar index
+-- GET /api/tasks/calendar finds tasks of the user's pins whose time range
+-- overlaps the requested window:
+--   tsrange(start_date_time, GREATEST(start_date_time, end_date_time), '[]') && tsrange(:from, :to, '[)')
+-- A missing or earlier end time is treated as the start instant. The index
+-- expression must match the query exactly.
+-- btree_gist lets pin_id share the GiST index with the range.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_pin_time_range
+    ON tasks USING gist (pin_id, tsrange(start_date_time, GREATEST(start_date_time, end_date_time), '[]'))
+    WHERE start_date_time IS NOT NULL;
@@ -0,0 +1,23 @@
+-- Pin task progress counters
+-- Maintained by TaskService on every task write (relative UPDATEs) and
+-- reconciled periodically; overdue_task_count only changes with time
+-- through the reconcile job.
+ALTER TABLE pins ADD COLUMN IF NOT EXISTS total_task_count INT NOT NULL DEFAULT 0;
+ALTER TABLE pins ADD COLUMN IF NOT EXISTS completed_task_count INT NOT NULL DEFAULT 0;
+ALTER TABLE pins ADD COLUMN IF NOT EXISTS overdue_task_count INT NOT NULL DEFAULT 0;
+
+-- Backfill from existing tasks.
+UPDATE pins p
+SET total_task_count = c.total,
+    completed_task_count = c.completed,
+    overdue_task_count = c.overdue
+FROM (
+    SELECT t.pin_id,
+           COUNT(*) AS total,
+           COUNT(*) FILTER (WHERE t.completed) AS completed,
+           COUNT(*) FILTER (WHERE NOT t.completed AND t.end_date_time < CURRENT_TIMESTAMP) AS overdue
+    FROM tasks t
+    WHERE t.pin_id IS NOT NULL
+    GROUP BY t.pin_id
+) c
+WHERE p.id = c.pin_id;
@@ -0,0 +1,88 @@
+-- Change log for delta sync (GET /api/sync)
+-- Every insert/update/delete on pins, members, tasks and notifications
+-- appends a row in the same transaction through a trigger, so JPA saves,
+-- JDBC batch/bulk statements and cascaded deletes are all captured.
+--
+-- Rows are read in (txid, id) order and only below the snapshot xmin
+-- (the oldest transaction still running). A transaction that commits
+-- late therefore can never appear behind a cursor a client already holds.
+CREATE TABLE IF NOT EXISTS change_log (
+    id BIGSERIAL PRIMARY KEY,
+    txid BIGINT NOT NULL DEFAULT (pg_current_xact_id()::text::bigint),
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    pin_id BIGINT,
+    user_id BIGINT,
+    operation VARCHAR(10) NOT NULL,
+    version BIGINT,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Pin-scoped changes (pins, members, tasks) and user-scoped changes
+-- (own memberships, notifications).
+CREATE INDEX IF NOT EXISTS idx_change_log_pin ON change_log (pin_id, txid, id) WHERE pin_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_change_log_user ON change_log (user_id, txid, id) WHERE user_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_change_log_changed_at ON change_log (changed_at);
+
+CREATE OR REPLACE FUNCTION log_entity_change() RETURNS trigger AS $$
+DECLARE
+    row_data JSONB;
+    scope_pin_id BIGINT;
+    scope_user_id BIGINT;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        row_data := to_jsonb(OLD);
+    ELSE
+        row_data := to_jsonb(NEW);
+    END IF;
+
+    -- TG_ARGV[0]: entity type
+    -- pins: scoped to the pin itself
+    -- members: visible to the pin and to the member's user
+    -- tasks: scoped to their pin
+    -- notifications: private to their user
+    CASE TG_ARGV[0]
+        WHEN 'PIN' THEN
+            scope_pin_id := (row_data ->> 'id')::bigint;
+        WHEN 'MEMBER' THEN
+            scope_pin_id := (row_data ->> 'pin_id')::bigint;
+            scope_user_id := (row_data ->> 'user_id')::bigint;
+        WHEN 'TASK' THEN
+            scope_pin_id := (row_data ->> 'pin_id')::bigint;
+        ELSE
+            scope_user_id := (row_data ->> 'user_id')::bigint;
+    END CASE;
+
+    -- A task moved to another pin disappears from the old pin.
+    IF TG_OP = 'UPDATE' AND TG_ARGV[0] = 'TASK' AND OLD.pin_id IS DISTINCT FROM NEW.pin_id AND OLD.pin_id IS NOT NULL THEN
+        INSERT INTO change_log (entity_type, entity_id, pin_id, user_id, operation, version)
+        VALUES (TG_ARGV[0], OLD.id, OLD.pin_id, NULL, 'DELETE', OLD.version);
+    END IF;
+
+    INSERT INTO change_log (entity_type, entity_id, pin_id, user_id, operation, version)
+    VALUES (TG_ARGV[0],
+            (row_data ->> 'id')::bigint,
+            scope_pin_id,
+            scope_user_id,
+            CASE WHEN TG_OP = 'DELETE' THEN 'DELETE' ELSE 'UPSERT' END,
+            (row_data ->> 'version')::bigint);
+
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_pins_change_log ON pins;
+CREATE TRIGGER trg_pins_change_log AFTER INSERT OR UPDATE OR DELETE ON pins
+    FOR EACH ROW EXECUTE FUNCTION log_entity_change('PIN');
+
+DROP TRIGGER IF EXISTS trg_members_change_log ON members;
+CREATE TRIGGER trg_members_change_log AFTER INSERT OR UPDATE OR DELETE ON members
+    FOR EACH ROW EXECUTE FUNCTION log_entity_change('MEMBER');
+
+DROP TRIGGER IF EXISTS trg_tasks_change_log ON tasks;
+CREATE TRIGGER trg_tasks_change_log AFTER INSERT OR UPDATE OR DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION log_entity_change('TASK');
+
+DROP TRIGGER IF EXISTS trg_notifications_change_log ON notifications;
+CREATE TRIGGER trg_notifications_change_log AFTER INSERT OR UPDATE OR DELETE ON notifications
+    FOR EACH ROW EXECUTE FUNCTION log_entity_change('NOTIFICATION');
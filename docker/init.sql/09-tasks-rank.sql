@@ -0,0 +1,22 @@
+-- Task ordering within a pin
+-- rank is a base-62 (0-9A-Za-z) string compared byte-wise, so a task can be
+-- moved between two neighbours by writing a key that sorts between theirs:
+-- a reorder updates exactly one row. COLLATE "C" keeps the database order
+-- identical to Java's String.compareTo.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS rank VARCHAR(64) COLLATE "C";
+
+-- Backfill in the current listing order (completed, start_date_time, id).
+-- Same format as the rebalance job: 10-digit position + 'V', which leaves
+-- room before, between and after every key.
+UPDATE tasks t
+SET rank = lpad(r.position::text, 10, '0') || 'V'
+FROM (
+    SELECT id, row_number() OVER (PARTITION BY pin_id ORDER BY completed, start_date_time NULLS LAST, id) AS position
+    FROM tasks
+    WHERE pin_id IS NOT NULL
+) r
+WHERE t.id = r.id AND t.rank IS NULL;
+
+-- Ordered listing (GET /api/tasks/{pinId}?sort=RANK) and the last key of a
+-- pin for appends (MAX(rank) WHERE pin_id = ?).
+CREATE INDEX IF NOT EXISTS idx_tasks_pin_rank ON tasks (pin_id, rank, id);
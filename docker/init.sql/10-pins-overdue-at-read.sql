@@ -0,0 +1,11 @@
+-- Overdue task counts are computed at read time instead of being stored.
+-- A stored counter drifts as deadlines pass between reconciles, and
+-- completing or deleting a newly overdue task decremented a count it
+-- was never part of.
+ALTER TABLE pins DROP COLUMN IF EXISTS overdue_task_count;
+
+-- Open tasks with a deadline, per pin: serves the overdue count
+-- (pin_id = ? AND end_date_time < now) as a short index range scan.
+CREATE INDEX IF NOT EXISTS idx_tasks_pin_open_deadline
+    ON tasks (pin_id, end_date_time)
+    WHERE NOT completed AND end_date_time IS NOT NULL;
@@ -0,0 +1,57 @@
+-- Task list version per pin, used as the ETag of GET /api/tasks/{pinId}.
+-- The list ETag used to be derived from every (id, version) of the pin's
+-- tasks, which made each conditional GET a scan of the pin's whole task
+-- history. Bumping a counter on the pin row makes the check one row read.
+ALTER TABLE pins ADD COLUMN IF NOT EXISTS task_list_version BIGINT NOT NULL DEFAULT 0;
+
+-- Statement-level triggers bump each affected pin once per statement, so a
+-- bulk UPDATE/DELETE of many tasks touches the pin row once. Pins are locked
+-- in id order, the same order the task-count reconciler uses.
+CREATE OR REPLACE FUNCTION bump_task_list_version() RETURNS trigger AS $$
+DECLARE
+    pin_ids BIGINT[];
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        SELECT array_agg(DISTINCT pin_id) INTO pin_ids FROM new_rows WHERE pin_id IS NOT NULL;
+    ELSIF TG_OP = 'DELETE' THEN
+        SELECT array_agg(DISTINCT pin_id) INTO pin_ids FROM old_rows WHERE pin_id IS NOT NULL;
+    ELSE
+        SELECT array_agg(DISTINCT pin_id) INTO pin_ids
+        FROM (SELECT pin_id FROM new_rows UNION SELECT pin_id FROM old_rows) changed
+        WHERE pin_id IS NOT NULL;
+    END IF;
+
+    IF pin_ids IS NOT NULL THEN
+        PERFORM 1 FROM pins WHERE id = ANY(pin_ids) ORDER BY id FOR UPDATE;
+        UPDATE pins SET task_list_version = task_list_version + 1 WHERE id = ANY(pin_ids);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Transition tables allow only one event per trigger.
+DROP TRIGGER IF EXISTS trg_tasks_list_version_insert ON tasks;
+CREATE TRIGGER trg_tasks_list_version_insert AFTER INSERT ON tasks
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_task_list_version();
+
+DROP TRIGGER IF EXISTS trg_tasks_list_version_update ON tasks;
+CREATE TRIGGER trg_tasks_list_version_update AFTER UPDATE ON tasks
+    REFERENCING NEW TABLE AS new_rows OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_task_list_version();
+
+DROP TRIGGER IF EXISTS trg_tasks_list_version_delete ON tasks;
+CREATE TRIGGER trg_tasks_list_version_delete AFTER DELETE ON tasks
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_task_list_version();
+
+-- A task list bump is not a pin change for delta sync: skip updates that
+-- only moved task_list_version.
+DROP TRIGGER IF EXISTS trg_pins_change_log ON pins;
+CREATE TRIGGER trg_pins_change_log AFTER INSERT OR DELETE ON pins
+    FOR EACH ROW EXECUTE FUNCTION log_entity_change('PIN');
+
+DROP TRIGGER IF EXISTS trg_pins_change_log_update ON pins;
+CREATE TRIGGER trg_pins_change_log_update AFTER UPDATE ON pins
+    FOR EACH ROW WHEN (OLD.task_list_version IS NOT DISTINCT FROM NEW.task_list_version)
+    EXECUTE FUNCTION log_entity_change('PIN');
@@ -0,0 +1,6 @@
+-- Name the users unique constraints explicitly.
+-- UserService maps a unique violation to the duplicate field by its
+-- constraint name; the driver's error text varies by locale and version.
+ALTER TABLE users RENAME CONSTRAINT users_username_key TO uk_users_username;
+ALTER TABLE users RENAME CONSTRAINT users_phone_key TO uk_users_phone;
+ALTER TABLE users RENAME CONSTRAINT users_email_key TO uk_users_email;
@@ -0,0 +1,80 @@
+// Request concurrency load test (k6)
+//
+// Compares the default platform-thread mode with the virtual-thread mode
+// (spring.threads.virtual.enabled=true, Java 21+) at the same heap size.
+//
+//   1. ./gradlew bootRun -PjavaVersion=21 --args='--spring.threads.virtual.enabled=false'
+//      k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=... -e PASSWORD=... \
+//             --summary-export=platform.json docker/loadtest/request-concurrency.js
+//   2. ./gradlew bootRun -PjavaVersion=21 --args='--spring.threads.virtual.enabled=true'
+//      k6 run ... --summary-export=virtual.json docker/loadtest/request-concurrency.js
+//
+// Compare http_reqs rate, http_req_duration p95/p99 and http_req_failed between
+// the two summaries, together with the actuator metrics sampled during the run:
+//   jvm.memory.used, jvm.threads.live, hikaricp.connections.pending,
+//   tomcat.threads.busy (platform mode only).
+// Run the app with -Djdk.tracePinnedThreads=short (JDK 21-23) or a JFR recording
+// with jdk.VirtualThreadPinned enabled to catch pinning introduced later.
+//
+// Keep the Hikari pool (spring.datasource.hikari.maximum-pool-size) and the heap the
+// same in both runs so that only the threading mode differs.
+//
+// No platform-vs-virtual results are recorded in this repository; the virtual-thread
+// mode is opt-in and makes no throughput or latency claim until this comparison has
+// been run against a deployed instance.
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const THINK_TIME_SECONDS = Number(__ENV.THINK_TIME_SECONDS || 0.1);
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: 200 },
+                { duration: '2m', target: 200 },
+                { duration: '1m', target: 1000 },
+                { duration: '2m', target: 1000 },
+                { duration: '1m', target: 2000 },
+                { duration: '2m', target: 2000 },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '30s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const response = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({
+        username: __ENV.USERNAME,
+        password: __ENV.PASSWORD,
+    }), { headers: { 'Content-Type': 'application/json' } });
+    check(response, { 'login succeeded': (r) => r.status === 200 });
+
+    const token = response.json('data.accessToken');
+    const headers = { Authorization: `Bearer ${token}` };
+    const pins = http.get(`${BASE_URL}/api/pins`, { headers }).json('data') || [];
+    return { token, pinIds: pins.map((pin) => pin.id) };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+
+    // Pin list: Redis/L1 cache path
+    check(http.get(`${BASE_URL}/api/pins`, params), { 'pins 200': (r) => r.status === 200 });
+
+    // Task list: PostgreSQL path
+    if (data.pinIds.length > 0) {
+        const pinId = data.pinIds[Math.floor(Math.random() * data.pinIds.length)];
+        check(http.get(`${BASE_URL}/api/tasks/${pinId}?size=20`, params), { 'tasks 200': (r) => r.status === 200 });
+    }
+
+    sleep(THINK_TIME_SECONDS);
+}
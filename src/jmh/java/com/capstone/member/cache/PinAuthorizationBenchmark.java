@@ -0,0 +1,147 @@
+package com.capstone.member.cache;
+
+import com.capstone.member.enums.MemberRole;
+import com.capstone.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * PinAuthorizationBenchmark
+ * 핀 권한 확인 비용 비교: 기존 리포지토리 경로(JPA + H2 인메모리 DB) vs PinAuthorizationIndex(비트맵)
+ * H2는 네트워크 왕복이 없으므로 리포지토리 경로는 실제 PostgreSQL보다 낮게 측정됩니다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+public class PinAuthorizationBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int PINS = 2_000;
+    private static final int PINS_PER_USER = 8;
+    private static final int LOOKUPS = 4_096;
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private EntityManager entityManager;
+    private MemberRepository memberRepository;
+    private PinAuthorizationIndex pinAuthorizationIndex;
+
+    private final Long[] userIds = new Long[LOOKUPS];
+    private final Long[] pinIds = new Long[LOOKUPS];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:pin-authorization;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setPackagesToScan("com.capstone");
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        entityManagerFactoryBean.afterPropertiesSet();
+
+        seed(new JdbcTemplate(dataSource));
+
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        memberRepository = new JpaRepositoryFactory(entityManager).getRepository(MemberRepository.class);
+        pinAuthorizationIndex = new PinAuthorizationIndex(memberRepository, new SimpleMeterRegistry(), USERS, Duration.ofHours(1));
+
+        // 절반은 멤버인 조합, 절반은 임의 조합
+        Random random = new Random(42);
+        for (int i = 0; i < LOOKUPS; i++) {
+            long userId = random.nextInt(USERS) + 1;
+            userIds[i] = userId;
+            pinIds[i] = i % 2 == 0 ? pinOf(userId, random.nextInt(PINS_PER_USER)) : (long) random.nextInt(PINS) + 1;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactoryBean.destroy();
+    }
+
+    @Benchmark
+    public boolean repositoryIsMember() {
+        int i = next();
+        return memberRepository.existsByPinIdAndUserId(pinIds[i], userIds[i]);
+    }
+
+    @Benchmark
+    public boolean repositoryIsOwner() {
+        int i = next();
+        boolean owner = memberRepository.findByPinIdAndUserId(pinIds[i], userIds[i])
+                .map(member -> member.getRole() == MemberRole.OWNER)
+                .orElse(false);
+        entityManager.clear();
+        return owner;
+    }
+
+    @Benchmark
+    public boolean indexIsMember() {
+        int i = next();
+        return pinAuthorizationIndex.isMember(userIds[i], pinIds[i]);
+    }
+
+    @Benchmark
+    public boolean indexIsOwner() {
+        int i = next();
+        return pinAuthorizationIndex.isOwner(userIds[i], pinIds[i]);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return cursor;
+    }
+
+    private long pinOf(long userId, int slot) {
+        return (userId * PINS_PER_USER + slot) % PINS + 1;
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> users = new ArrayList<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            users.add(new Object[]{userId, "user" + userId, "password", "user" + userId, now, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (id, username, password, name, created_date, updated_date, version) VALUES (?, ?, ?, ?, ?, ?, 0)",
+                users);
+
+        List<Object[]> pins = new ArrayList<>();
+        for (long pinId = 1; pinId <= PINS; pinId++) {
+            pins.add(new Object[]{pinId, "pin" + pinId, now, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO pins (id, title, current_member_count, created_at, updated_at, version) VALUES (?, ?, 1, ?, ?, 0)",
+                pins);
+
+        List<Object[]> members = new ArrayList<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            for (int slot = 0; slot < PINS_PER_USER; slot++) {
+                String role = slot == 0 ? MemberRole.OWNER.name() : MemberRole.MEMBER.name();
+                members.add(new Object[]{pinOf(userId, slot), userId, role, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO members (pin_id, user_id, role, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, 0)",
+                members);
+    }
+
+}
@@ -5,11 +5,15 @@ import com.capstone.user.dto.FindUsernameRequest;
 import com.capstone.user.dto.FindUsernameResponse;
 import com.capstone.auth.service.AuthService;
 import com.capstone.common.dto.ApiResponse;
+import com.capstone.common.ratelimit.RateLimitPolicy;
+import com.capstone.common.ratelimit.RateLimitService;
+import com.capstone.common.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +29,8 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final RateLimitService rateLimitService;
+    private final SecurityUtil securityUtil;
 
     @Operation(
         summary = "회원가입",
@@ -49,13 +55,16 @@ public class AuthController {
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "로그인 성공, JWT 토큰 반환"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패 (아이디 또는 비밀번호 불일치)")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패 (아이디 또는 비밀번호 불일치)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "요청 제한 초과")
     })
     @PostMapping("/login")
     @ResponseStatus(HttpStatus.ACCEPTED)
     public ApiResponse<LoginResponse> login(
             @Parameter(description = "로그인 요청 정보", required = true)
-            @Valid @RequestBody LoginRequest request) {
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        rateLimitService.acquire(RateLimitPolicy.LOGIN, httpRequest, request.getUsername());
         LoginResponse response = authService.login(request);
         return ApiResponse.success(response, "로그인이 성공했습니다.");
     }
@@ -73,14 +82,35 @@ public class AuthController {
     public ApiResponse<Void> logout(
             @Parameter(description = "JWT 액세스 토큰 (Bearer {token})", required = true, example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
             @RequestHeader("Authorization") String authorization,
-            @Parameter(description = "사용자 아이디", required = true, example = "user123")
-            @RequestParam String username) {
-        // Bearer 토큰 추출
+            @Parameter(description = "기기 식별자 (생략 시 기본 세션)", example = "android-7f3c2a")
+            @RequestParam(required = false) String deviceId,
+            HttpServletRequest httpRequest) {
+        // Bearer 토큰 추출, 대상 사용자는 검증된 액세스 토큰에서 확인
         String token = authorization.substring(7);
-        authService.logout(token, username);
+        authService.logout(token, securityUtil.getUsernameFromRequest(httpRequest), deviceId);
         return ApiResponse.success(null, "로그아웃이 완료되었습니다.");
     }
 
+    @Operation(
+        summary = "전체 로그아웃",
+        description = "현재 액세스 토큰을 무효화하고 모든 기기의 리프레시 토큰을 삭제합니다.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "전체 로그아웃 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @PostMapping("/logout/all")
+    public ApiResponse<Void> logoutAll(
+            @Parameter(description = "JWT 액세스 토큰 (Bearer {token})", required = true, example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
+            @RequestHeader("Authorization") String authorization,
+            HttpServletRequest httpRequest) {
+        // Bearer 토큰 추출, 대상 사용자는 검증된 액세스 토큰에서 확인
+        String token = authorization.substring(7);
+        authService.logoutAll(token, securityUtil.getUsernameFromRequest(httpRequest));
+        return ApiResponse.success(null, "모든 기기에서 로그아웃되었습니다.");
+    }
+
     @Operation(
         summary = "토큰 갱신",
         description = "리프레시 토큰을 사용하여 새로운 액세스 토큰과 리프레시 토큰을 발급받습니다."
@@ -103,10 +133,12 @@ public class AuthController {
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "아이디 찾기 성공"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "사용자 정보 불일치")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "사용자 정보 불일치"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "요청 제한 초과")
     })
     @PostMapping("/username")
-    public ApiResponse<FindUsernameResponse> findUsername(FindUsernameRequest request) {
+    public ApiResponse<FindUsernameResponse> findUsername(FindUsernameRequest request, HttpServletRequest httpRequest) {
+        rateLimitService.acquire(RateLimitPolicy.FIND_USERNAME, httpRequest);
         FindUsernameResponse response = authService.findUsername(request);
         return ApiResponse.success(response, "아이디 찾기가 완료되었습니다.");
     }
@@ -117,12 +149,15 @@ public class AuthController {
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "비밀번호 재설정 성공"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (아이디 또는 이메일 불일치)")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (아이디 또는 이메일 불일치)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "요청 제한 초과")
     })
     @PostMapping("/password")
     public ApiResponse<Void> resetPassword(
             @Parameter(description = "비밀번호 재설정 요청 정보", required = true)
-            @Valid @RequestBody ResetPasswordRequest request) {
+            @Valid @RequestBody ResetPasswordRequest request,
+            HttpServletRequest httpRequest) {
+        rateLimitService.acquire(RateLimitPolicy.RESET_PASSWORD, httpRequest, request.getUsername());
         authService.resetPassword(request);
         return ApiResponse.success(null, "비밀번호가 재설정되었습니다.");
     }
@@ -134,12 +169,15 @@ public class AuthController {
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "토큰 유효"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "토큰 무효 또는 만료")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "토큰 무효 또는 만료"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "요청 제한 초과")
     })
     @PostMapping("/verify")
     public ApiResponse<VerifyTokenResponse> verifyToken(
             @Parameter(description = "JWT 액세스 토큰 (Bearer {token})", required = true)
-            @RequestHeader("Authorization") String authorization) {
+            @RequestHeader("Authorization") String authorization,
+            HttpServletRequest httpRequest) {
+        rateLimitService.acquire(RateLimitPolicy.VERIFY_TOKEN, httpRequest);
         // Bearer 토큰 추출
         String token = authorization.substring(7);
         VerifyTokenResponse response = authService.verifyToken(token);
@@ -153,13 +191,16 @@ public class AuthController {
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "OAuth2 로그인 성공, JWT 토큰 반환"),
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "유효하지 않은 ID Token")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "유효하지 않은 ID Token"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "429", description = "요청 제한 초과")
     })
     @PostMapping("/oauth2/google")
     public ApiResponse<LoginResponse> oauth2GoogleLogin(
             @Parameter(description = "Google ID Token 요청 정보", required = true)
-            @Valid @RequestBody OAuth2LoginRequest request) {
-        LoginResponse response = authService.oauth2Login(request.getIdToken());
+            @Valid @RequestBody OAuth2LoginRequest request,
+            HttpServletRequest httpRequest) {
+        rateLimitService.acquire(RateLimitPolicy.OAUTH2_LOGIN, httpRequest);
+        LoginResponse response = authService.oauth2Login(request.getIdToken(), request.getDeviceId());
         return ApiResponse.success(response, "OAuth2 로그인이 성공했습니다.");
     }
 
@@ -22,4 +22,8 @@ public class LoginRequest {
     @Size(min = 4, max =255, message = "비밀번호는 4자 이상 255자 이하여야 합니다")
     private String password; // 비밀번호
 
+    @Schema(description = "기기 식별자 (기기별 세션 관리, 생략 시 기본 세션)", example = "android-7f3c2a")
+    @Size(max = 100, message = "기기 식별자는 100자 이하여야 합니다")
+    private String deviceId; // 기기 식별자
+
 }
@@ -15,6 +15,8 @@ public class LoginResponse {
 
     private String refreshToken;
 
+    private String deviceId;
+
     private UserInfo userInfo;
 
     private long expiresIn;
@@ -2,6 +2,7 @@ package com.capstone.auth.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,4 +20,8 @@ public class OAuth2LoginRequest {
             example = "eyJhbGciOiJSUzI1NiIsImtpZCI6IjE4MmU0NTBhMzVhMjA4MWZhYTFkOWViYTIy...",
             required = true)
     private String idToken;
+
+    @Size(max = 100, message = "기기 식별자는 100자 이하여야 합니다")
+    @Schema(description = "기기 식별자 (기기별 세션 관리, 생략 시 기본 세션)", example = "android-7f3c2a")
+    private String deviceId;
 }
@@ -2,6 +2,7 @@ package com.capstone.auth.dto;
 
 import lombok.*;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 @Data
 @NoArgsConstructor
@@ -12,4 +13,7 @@ public class RefreshTokenRequest {
     @NotBlank(message = "리프레시 토큰은 필수입니다")
     private String refreshToken;
 
+    @Size(max = 100, message = "기기 식별자는 100자 이하여야 합니다")
+    private String deviceId;
+
 }
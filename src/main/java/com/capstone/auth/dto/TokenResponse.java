@@ -12,6 +12,7 @@ public class TokenResponse {
 
     private String accessToken;
     private String refreshToken;
+    private String deviceId;
     private long expiresIn;
     private long refreshExpiresIn;
 
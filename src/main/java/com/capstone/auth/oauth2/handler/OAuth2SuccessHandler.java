@@ -1,6 +1,7 @@
 package com.capstone.auth.oauth2.handler;
 
 import com.capstone.auth.oauth2.user.CustomOAuth2User;
+import com.capstone.auth.service.RefreshTokenService;
 import com.capstone.common.util.JwtUtil;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,14 +9,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
 
 /** OAuth2 로그인 성공 시 JWT 토큰을 발급하고 리다이렉트 처리하는 핸들러 */
 @Slf4j
@@ -24,13 +23,11 @@ import java.util.concurrent.TimeUnit;
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     
     private final JwtUtil jwtUtil;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenService refreshTokenService;
     
     @Value("${oauth2.redirect-uri:http://localhost:3000/oauth2/redirect}")
     private String redirectUri;
     
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
-    
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, 
                                        HttpServletResponse response,
@@ -42,13 +39,12 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
         String accessToken = jwtUtil.generateAccessToken(oAuth2User.getUsername(), oAuth2User.getUserId());
         String refreshToken = jwtUtil.generateRefreshToken(oAuth2User.getUsername(), oAuth2User.getUserId());
         
-        // Refresh Token을 Redis에 저장
-        String redisKey = REFRESH_TOKEN_PREFIX + oAuth2User.getUsername();
-        redisTemplate.opsForValue().set(
-            redisKey,
+        // Refresh Token을 Redis에 저장 (웹 로그인은 기본 세션 사용)
+        refreshTokenService.save(
+            oAuth2User.getUsername(),
+            RefreshTokenService.DEFAULT_DEVICE_ID,
             refreshToken,
-            jwtUtil.getRefreshTokenExpirationInSeconds(),
-            TimeUnit.SECONDS
+            jwtUtil.getRefreshTokenExpirationInSeconds()
         );
         
         log.info("OAuth2 로그인 성공 - 토큰 발급: username={}, provider={}", 
@@ -12,7 +12,6 @@ import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -24,9 +23,14 @@ import java.util.UUID;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     
     private final UserRepository userRepository;
+    private final OAuth2UserRegistrationService oAuth2UserRegistrationService;
     
+    /**
+     * OAuth2 제공자 사용자 정보 조회 후 사용자 조회/생성
+     * 제공자 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다.
+     * (사용자 조회는 repository 트랜잭션, 생성은 OAuth2UserRegistrationService의 별도 트랜잭션에서 처리)
+     */
     @Override
-    @Transactional
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         // OAuth2 제공자로부터 사용자 정보 가져오기
         OAuth2User oAuth2User = super.loadUser(userRequest);
@@ -90,31 +94,12 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         }
         
         // 3. 신규 사용자 생성
-        String username = generateUsername(oAuth2UserInfo);
-        
-        User newUser = User.builder()
-            .username(username)
-            .password(UUID.randomUUID().toString()) // OAuth2 사용자는 비밀번호 사용 안함
-            .name(oAuth2UserInfo.getName() != null ? oAuth2UserInfo.getName() : "사용자")
-            .email(oAuth2UserInfo.getEmail())
-            .provider(oAuth2UserInfo.getProvider())
-            .providerId(oAuth2UserInfo.getProviderId())
-            .build();
-        
-        return userRepository.save(newUser);
-    }
-    
-    /** OAuth2 사용자를 위한 고유 username 생성 */
-    private String generateUsername(OAuth2UserInfo oAuth2UserInfo) {
-        String baseUsername = oAuth2UserInfo.getProvider() + "_" + oAuth2UserInfo.getProviderId();
-        
-        // username 중복 체크
-        String username = baseUsername;
-        int suffix = 1;
-        while (userRepository.findByUsername(username).isPresent()) {
-            username = baseUsername + "_" + suffix++;
-        }
-        
-        return username;
+        return oAuth2UserRegistrationService.register(
+            oAuth2UserInfo.getProvider(),
+            oAuth2UserInfo.getProviderId(),
+            oAuth2UserInfo.getEmail(),
+            oAuth2UserInfo.getName() != null ? oAuth2UserInfo.getName() : "사용자",
+            UUID.randomUUID().toString() // OAuth2 사용자는 비밀번호 사용 안함
+        );
     }
 }
@@ -0,0 +1,101 @@
+package com.capstone.auth.oauth2.service;
+
+import com.capstone.user.cache.UserExistenceFilter;
+import com.capstone.user.entity.User;
+import com.capstone.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+/**
+ * OAuth2UserRegistrationService
+ * OAuth2 신규 사용자를 생성합니다.
+ * username은 한 번의 쿼리로 가장 큰 suffix를 조회하여 할당하고,
+ * 동시 가입으로 unique 제약 조건에 걸리면 별도 트랜잭션에서 다시 시도합니다.
+ */
+@Slf4j
+@Service
+public class OAuth2UserRegistrationService {
+
+    private static final int MAX_REGISTER_ATTEMPTS = 3;
+
+    private final UserRepository userRepository;
+    private final UserExistenceFilter userExistenceFilter;
+    private final TransactionTemplate requiresNewTransaction;
+
+    public OAuth2UserRegistrationService(UserRepository userRepository,
+                                         UserExistenceFilter userExistenceFilter,
+                                         PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.userExistenceFilter = userExistenceFilter;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * OAuth2 사용자 생성
+     * 같은 provider 계정이 동시에 먼저 생성된 경우 해당 사용자를 반환합니다.
+     */
+    public User register(String provider, String providerId, String email, String name, String password) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return requiresNewTransaction.execute(status -> {
+                    String username = allocateUsername(provider, providerId);
+                    User newUser = User.builder()
+                            .username(username)
+                            .password(password)
+                            .name(name)
+                            .email(email)
+                            .provider(provider)
+                            .providerId(providerId)
+                            .build();
+                    userExistenceFilter.add(username, email);
+                    return userRepository.saveAndFlush(newUser);
+                });
+            } catch (DataIntegrityViolationException e) {
+                // 1. 같은 provider 계정이 동시에 생성된 경우
+                Optional<User> existingUser = userRepository.findByProviderAndProviderId(provider, providerId);
+                if (existingUser.isPresent()) {
+                    return existingUser.get();
+                }
+
+                // 2. username이 동시에 선점된 경우 다시 할당
+                if (attempt >= MAX_REGISTER_ATTEMPTS) {
+                    log.error("OAuth2 사용자 생성 실패: provider={}, providerId={}, error={}", provider, providerId, e.getMessage());
+                    throw new IllegalArgumentException("사용자 생성에 실패했습니다. 잠시 후 다시 시도해주세요.");
+                }
+                log.warn("OAuth2 사용자 생성 충돌, 재시도: provider={}, attempt={}", provider, attempt);
+            }
+        }
+    }
+
+    /**
+     * OAuth2 사용자를 위한 고유 username 생성
+     * 형식: {provider}_{providerId}, 중복 시 {provider}_{providerId}_{n}
+     */
+    private String allocateUsername(String provider, String providerId) {
+        String baseUsername = provider + "_" + providerId;
+
+        Integer maxSuffix = userRepository.findMaxUsernameSuffix(
+                baseUsername,
+                escapeLikePattern(baseUsername) + "\\_%",
+                baseUsername.length() + 2
+        );
+
+        String username = maxSuffix == null ? baseUsername : baseUsername + "_" + (maxSuffix + 1);
+        log.debug("OAuth2 username 생성: {}", username);
+        return username;
+    }
+
+    private String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
+}
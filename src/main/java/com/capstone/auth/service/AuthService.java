@@ -1,6 +1,8 @@
 package com.capstone.auth.service;
 
 import com.capstone.auth.dto.*;
+import com.capstone.auth.oauth2.service.OAuth2UserRegistrationService;
+import com.capstone.common.service.PasswordHashService;
 import com.capstone.common.util.JwtUtil;
 import com.capstone.user.dto.CreateUserRequest;
 import com.capstone.user.dto.FindUsernameRequest;
@@ -13,13 +15,14 @@ import com.capstone.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.gson.GsonFactory;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.io.IOException;
@@ -38,16 +41,29 @@ public class AuthService {
     private final UserService userService;
     private final UserCacheService userCacheService;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashService passwordHashService;
     private final JwtUtil jwtUtil;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenService refreshTokenService;
+    private final OAuth2UserRegistrationService oAuth2UserRegistrationService;
 
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String googleClientId;
 
-    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    /** Google 공개 키를 캐시하므로 요청마다 만들지 않고 재사용 (thread-safe) */
+    private GoogleIdTokenVerifier googleIdTokenVerifier;
+
     private static final String BLACKLIST_PREFIX = "blacklist:";
 
+    @PostConstruct
+    void initGoogleIdTokenVerifier() {
+        googleIdTokenVerifier = new GoogleIdTokenVerifier.Builder(
+                new NetHttpTransport(),
+                GsonFactory.getDefaultInstance())
+                .setAudience(Collections.singletonList(googleClientId))
+                .build();
+    }
+
     /** 사용자 등록 */
     @Transactional
     public RegisterResponse register(RegisterRequest request) {
@@ -74,11 +90,11 @@ public class AuthService {
     @Transactional
     public LoginResponse login(LoginRequest request) {
         // 사용자 조회
-        User user = userCacheService.getUserByUsername(request.getUsername())
+        User user = userCacheService.loadUserByUsername(request.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         // 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashService.matches(request.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
@@ -86,34 +102,53 @@ public class AuthService {
         String accessToken = jwtUtil.generateAccessToken(user.getUsername(), user.getId());
         String refreshToken = jwtUtil.generateRefreshToken(user.getUsername(), user.getId());
 
-        // Refresh Token Redis에 저장
-        String redisKey = REFRESH_TOKEN_PREFIX + user.getUsername();
-        redisTemplate.opsForValue().set(
-                redisKey,
+        // Refresh Token Redis에 저장 (기기별 세션)
+        String deviceId = refreshTokenService.resolveDeviceId(request.getDeviceId());
+        refreshTokenService.save(
+                user.getUsername(),
+                deviceId,
                 refreshToken,
-                jwtUtil.getRefreshTokenExpirationInSeconds(),
-                TimeUnit.SECONDS
+                jwtUtil.getRefreshTokenExpirationInSeconds()
         );
 
-        log.info("로그인 성공: {}", user.getUsername());
+        log.info("로그인 성공: {}, deviceId={}", user.getUsername(), deviceId);
 
         return LoginResponse.builder()
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
+                .deviceId(deviceId)
                 .userInfo(UserInfo.fromEntity(user))
                 .expiresIn(jwtUtil.getAccessTokenExpirationInSeconds())
                 .refreshExpiresIn(jwtUtil.getRefreshTokenExpirationInSeconds())
                 .build();
     }
 
-    /** 사용자 로그아웃 */
+    /** 사용자 로그아웃 (현재 기기) */
+    @Transactional
+    public void logout(String token, String username, String deviceId) {
+        // 해당 기기의 Refresh Token 삭제
+        refreshTokenService.revoke(username, deviceId);
+
+        // Access Token 블랙리스트 추가
+        blacklistAccessToken(token);
+
+        log.info("로그아웃 성공: {}, deviceId={}", username, refreshTokenService.resolveDeviceId(deviceId));
+    }
+
+    /** 사용자 로그아웃 (모든 기기) */
     @Transactional
-    public void logout(String token, String username) {
-        // Refresh Token 삭제
-        String refreshKey = REFRESH_TOKEN_PREFIX + username;
-        redisTemplate.delete(refreshKey);
+    public void logoutAll(String token, String username) {
+        // 모든 기기의 Refresh Token 삭제
+        refreshTokenService.revokeAll(username);
 
         // Access Token 블랙리스트 추가
+        blacklistAccessToken(token);
+
+        log.info("전체 로그아웃 성공: {}", username);
+    }
+
+    /** Access Token 블랙리스트 추가 (남은 만료 시간 동안 유지) */
+    private void blacklistAccessToken(String token) {
         String blacklistKey = BLACKLIST_PREFIX + token;
         long expiration = jwtUtil.getExpirationFromToken(token).getTime() - System.currentTimeMillis();
         if (expiration > 0) {
@@ -124,8 +159,6 @@ public class AuthService {
                     TimeUnit.MILLISECONDS
             );
         }
-
-        log.info("로그아웃 성공: {}", username);
     }
 
     /** 토큰 갱신 */
@@ -146,31 +179,30 @@ public class AuthService {
         String username = jwtUtil.getUsernameFromToken(refreshToken);
         Long userId = jwtUtil.getUserIdFromToken(refreshToken);
 
-        // Redis에 저장된 Refresh Token 확인
-        String redisKey = REFRESH_TOKEN_PREFIX + username;
-        String storedToken = redisTemplate.opsForValue().get(redisKey);
-
-        if (storedToken == null || !storedToken.equals(refreshToken)) {
-            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
-        }
-
         // 새로운 토큰 생성
         String newAccessToken = jwtUtil.generateAccessToken(username, userId);
         String newRefreshToken = jwtUtil.generateRefreshToken(username, userId);
 
-        // 새로운 Refresh Token Redis에 저장
-        redisTemplate.opsForValue().set(
-                redisKey,
+        // 저장된 Refresh Token 확인 및 교체 (Lua 스크립트로 원자적 처리)
+        String deviceId = refreshTokenService.resolveDeviceId(request.getDeviceId());
+        boolean rotated = refreshTokenService.rotate(
+                username,
+                deviceId,
+                refreshToken,
                 newRefreshToken,
-                jwtUtil.getRefreshTokenExpirationInSeconds(),
-                TimeUnit.SECONDS
+                jwtUtil.getRefreshTokenExpirationInSeconds()
         );
 
-        log.info("토큰 갱신 성공: {}", username);
+        if (!rotated) {
+            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        log.info("토큰 갱신 성공: {}, deviceId={}", username, deviceId);
 
         return TokenResponse.builder()
                 .accessToken(newAccessToken)
                 .refreshToken(newRefreshToken)
+                .deviceId(deviceId)
                 .expiresIn(jwtUtil.getAccessTokenExpirationInSeconds())
                 .refreshExpiresIn(jwtUtil.getRefreshTokenExpirationInSeconds())
                 .build();
@@ -238,18 +270,14 @@ public class AuthService {
     /** 
      * OAuth2 로그인 (Google ID Token 검증)
      * Android에서 받은 Google ID Token을 검증하고, 새 사용자를 생성하거나 기존 사용자로 로그인 처리
+     * Google 서버 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행합니다.
+     * (사용자 조회는 repository 트랜잭션, 생성은 OAuth2UserRegistrationService의 별도 트랜잭션에서 처리)
      */
-    @Transactional
-    public LoginResponse oauth2Login(String idToken) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LoginResponse oauth2Login(String idToken, String deviceId) {
         try {
             // 1. Google ID Token 검증
-            GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(
-                    new NetHttpTransport(), 
-                    GsonFactory.getDefaultInstance())
-                    .setAudience(Collections.singletonList(googleClientId))
-                    .build();
-
-            GoogleIdToken googleIdToken = verifier.verify(idToken);
+            GoogleIdToken googleIdToken = googleIdTokenVerifier.verify(idToken);
             if (googleIdToken == null) {
                 throw new IllegalArgumentException("유효하지 않은 Google ID Token입니다.");
             }
@@ -269,13 +297,13 @@ public class AuthService {
             String accessToken = jwtUtil.generateAccessToken(user.getUsername(), user.getId());
             String refreshToken = jwtUtil.generateRefreshToken(user.getUsername(), user.getId());
 
-            // 5. Refresh Token을 Redis에 저장 (세션 관리)
-            String redisKey = REFRESH_TOKEN_PREFIX + user.getUsername();
-            redisTemplate.opsForValue().set(
-                    redisKey,
+            // 5. Refresh Token을 Redis에 저장 (기기별 세션 관리)
+            String resolvedDeviceId = refreshTokenService.resolveDeviceId(deviceId);
+            refreshTokenService.save(
+                    user.getUsername(),
+                    resolvedDeviceId,
                     refreshToken,
-                    jwtUtil.getRefreshTokenExpirationInSeconds(),
-                    TimeUnit.SECONDS
+                    jwtUtil.getRefreshTokenExpirationInSeconds()
             );
 
             log.info("OAuth2 로그인 성공: username={}, provider=google", user.getUsername());
@@ -284,6 +312,7 @@ public class AuthService {
             return LoginResponse.builder()
                     .accessToken(accessToken)
                     .refreshToken(refreshToken)
+                    .deviceId(resolvedDeviceId)
                     .userInfo(UserInfo.fromEntity(user))
                     .expiresIn(jwtUtil.getAccessTokenExpirationInSeconds())
                     .refreshExpiresIn(jwtUtil.getRefreshTokenExpirationInSeconds())
@@ -330,41 +359,19 @@ public class AuthService {
         }
         
         // 3. 신규 OAuth2 사용자 생성
-        String username = generateOAuth2Username("google", providerId);
         // OAuth2 사용자는 비밀번호를 사용하지 않으므로 랜덤 UUID를 암호화하여 저장
-        String randomPassword = passwordEncoder.encode(UUID.randomUUID().toString());
-        
-        User newUser = User.builder()
-                .username(username)
-                .password(randomPassword)
-                .name(name != null ? name : "Google 사용자")
-                .email(email)
-                .provider("google")
-                .providerId(providerId)
-                .build();
-        
-        User savedUser = userRepository.save(newUser);
-        log.info("신규 OAuth2 사용자 생성: username={}, email={}", username, email);
+        String randomPassword = passwordHashService.encode(UUID.randomUUID().toString());
+
+        User savedUser = oAuth2UserRegistrationService.register(
+                "google",
+                providerId,
+                email,
+                name != null ? name : "Google 사용자",
+                randomPassword
+        );
+        log.info("신규 OAuth2 사용자 생성: username={}, email={}", savedUser.getUsername(), email);
         
         return savedUser;
     }
 
-    /** 
-     * OAuth2 사용자를 위한 고유 username 생성
-     * 형식: {provider}_{providerId} (예: google_123456789)
-     */
-    private String generateOAuth2Username(String provider, String providerId) {
-        String baseUsername = provider + "_" + providerId;
-        
-        // username 중복 체크 (만약 중복이면 숫자 suffix 추가)
-        String username = baseUsername;
-        int suffix = 1;
-        while (userRepository.findByUsername(username).isPresent()) {
-            username = baseUsername + "_" + suffix++;
-        }
-        
-        log.debug("OAuth2 username 생성: {}", username);
-        return username;
-    }
-
 }
@@ -0,0 +1,126 @@
+package com.capstone.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * RefreshTokenService
+ * 사용자별 Redis 해시(refresh_tokens:{username})에 기기(deviceId)별 리프레시 토큰을 저장합니다.
+ * 저장과 회전(rotation)은 Lua 스크립트로 한 번의 왕복에서 원자적으로 처리되어,
+ * 같은 리프레시 토큰으로 동시에 갱신을 요청해도 하나만 성공합니다.
+ * 기기별 만료 시각은 값에 함께 저장("{만료 시각(ms)}|{토큰}")하며, 저장/회전할 때 만료된 기기를 정리하고
+ * 해시 키의 만료 시각을 남은 기기 중 가장 늦은 만료 시각으로 맞춥니다.
+ * (한 기기의 로그인이 다른 기기 토큰의 만료를 늘리지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final String REFRESH_TOKEN_PREFIX = "refresh_tokens:";
+
+    /** deviceId를 보내지 않는 클라이언트가 사용하는 기본 세션 */
+    public static final String DEFAULT_DEVICE_ID = "default";
+
+    /**
+     * 저장/회전 스크립트 공통 부분 (KEYS[1]=해시 키)
+     * 만료 시각이 없는 이전 형식의 값은 해시 키의 남은 TTL을 만료 시각으로 봅니다.
+     */
+    private static final String SESSION_FUNCTIONS =
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local legacyExpiry = now + math.max(redis.call('PTTL', KEYS[1]), 0) " +
+            "local function parse(value) " +
+            "  local expiry, token = string.match(value, '^(%d+)|(.*)$') " +
+            "  if expiry == nil then return legacyExpiry, value end " +
+            "  return tonumber(expiry), token " +
+            "end " +
+            "local function prune() " +
+            "  local entries = redis.call('HGETALL', KEYS[1]) " +
+            "  local maxExpiry = 0 " +
+            "  for i = 1, #entries, 2 do " +
+            "    local expiry = parse(entries[i + 1]) " +
+            "    if expiry <= now then redis.call('HDEL', KEYS[1], entries[i]) " +
+            "    elseif expiry > maxExpiry then maxExpiry = expiry end " +
+            "  end " +
+            "  if maxExpiry > 0 then redis.call('PEXPIREAT', KEYS[1], maxExpiry) end " +
+            "end ";
+
+    /** ARGV[1]=deviceId, ARGV[2]=토큰, ARGV[3]=TTL(초) */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            SESSION_FUNCTIONS +
+            "redis.call('HSET', KEYS[1], ARGV[1], (now + tonumber(ARGV[3]) * 1000) .. '|' .. ARGV[2]) " +
+            "prune() " +
+            "return 1",
+            Long.class
+    );
+
+    /** ARGV[1]=deviceId, ARGV[2]=기존 토큰, ARGV[3]=새 토큰, ARGV[4]=TTL(초) */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            SESSION_FUNCTIONS +
+            "local value = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not value then return 0 end " +
+            "local expiry, token = parse(value) " +
+            "if expiry <= now or token ~= ARGV[2] then prune() return 0 end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], (now + tonumber(ARGV[4]) * 1000) .. '|' .. ARGV[3]) " +
+            "prune() " +
+            "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /** 기기 세션의 리프레시 토큰 저장 (로그인) */
+    public void save(String username, String deviceId, String refreshToken, long ttlSeconds) {
+        redisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(key(username)),
+                resolveDeviceId(deviceId),
+                refreshToken,
+                String.valueOf(ttlSeconds)
+        );
+    }
+
+    /**
+     * 리프레시 토큰 회전
+     * 저장된 토큰이 기존 토큰과 같을 때만 새 토큰으로 교체하며, 교체에 성공하면 true를 반환합니다.
+     */
+    public boolean rotate(String username, String deviceId, String currentToken, String newToken, long ttlSeconds) {
+        Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(key(username)),
+                resolveDeviceId(deviceId),
+                currentToken,
+                newToken,
+                String.valueOf(ttlSeconds)
+        );
+        return result != null && result == 1L;
+    }
+
+    /** 특정 기기 세션 삭제 (로그아웃) */
+    public void revoke(String username, String deviceId) {
+        redisTemplate.opsForHash().delete(key(username), resolveDeviceId(deviceId));
+    }
+
+    /** 모든 기기 세션 삭제 (전체 로그아웃) */
+    public void revokeAll(String username) {
+        redisTemplate.delete(key(username));
+    }
+
+    /** deviceId가 없으면 기본 세션을 사용 */
+    public String resolveDeviceId(String deviceId) {
+        return StringUtils.hasText(deviceId) ? deviceId : DEFAULT_DEVICE_ID;
+    }
+
+    private String key(String username) {
+        return REFRESH_TOKEN_PREFIX + username;
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.capstone.common.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * BloomFilter
+ * 문자열 존재 여부를 확인하는 스레드 안전한 Bloom 필터입니다.
+ * mightContain이 false이면 한 번도 추가되지 않은 값이며, true이면 오탐일 수 있습니다.
+ * 삭제를 지원하지 않으므로 제거된 값은 필터를 다시 만들어 정리합니다.
+ * 비트 위치는 값의 기본 해시 두 개(Hashes)로부터 계산하므로, 원래 값 없이 해시만으로도 추가할 수 있습니다.
+ * (필터 크기가 다른 노드 간에 값 대신 해시를 전달하는 용도)
+ */
+public class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long SECOND_SEED = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions는 0보다 커야 합니다.");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다.");
+        }
+
+        // m = -n * ln(p) / (ln 2)^2, k = m / n * ln 2
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE, (optimalBits + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /** 값의 기본 해시 (비트 위치 계산용) */
+    public static Hashes hashesOf(String value) {
+        return new Hashes(hash(value, 0L), hash(value, SECOND_SEED));
+    }
+
+    /** 값 추가 */
+    public void put(String value) {
+        put(hashesOf(value));
+    }
+
+    /** 기본 해시로 값 추가 */
+    public void put(Hashes hashes) {
+        long hash1 = hashes.first();
+        long hash2 = hashes.second();
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+
+            long word = bits.get(wordIndex);
+            while ((word & mask) == 0 && !bits.compareAndSet(wordIndex, word, word | mask)) {
+                word = bits.get(wordIndex);
+            }
+        }
+    }
+
+    /** 추가되었을 가능성이 있는지 확인 (false면 확실히 없음) */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0L);
+        long hash2 = hash(value, SECOND_SEED);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    /** 값의 기본 해시 쌍 (비트 위치 = first + i * second) */
+    public record Hashes(long first, long second) {
+    }
+
+    /** FNV-1a 64비트 해시 후 비트 혼합 (Kirsch-Mitzenmacher 이중 해싱용) */
+    private static long hash(String value, long seed) {
+        long hash = FNV_OFFSET_BASIS ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.capstone.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/** 다른 노드가 발행한 캐시 무효화 메시지를 받아 L1 캐시를 비웁니다. */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoLevelCacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+            cacheManager.evictLocal(objectMapper.readValue(payload, CacheInvalidationMessage.class));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+}
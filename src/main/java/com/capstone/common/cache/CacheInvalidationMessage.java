@@ -0,0 +1,8 @@
+package com.capstone.common.cache;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지
+ * key가 null이면 해당 캐시 전체를 비웁니다.
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, String key) {
+}
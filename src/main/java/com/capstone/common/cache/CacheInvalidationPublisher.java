@@ -0,0 +1,43 @@
+package com.capstone.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * CacheInvalidationPublisher
+ * 캐시 변경 시 다른 노드의 L1 캐시를 무효화하도록 Redis 채널에 메시지를 발행합니다.
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public CacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public void publish(String cacheName, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, key));
+            redisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (JsonProcessingException e) {
+            log.error("캐시 무효화 메시지 생성 실패: cache={}, key={}", cacheName, key);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드의 L1은 TTL 만료로 정리됨
+            log.warn("캐시 무효화 메시지 발행 실패: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,322 @@
+package com.capstone.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * TwoLevelCache
+ * 프로세스 내 L1(Caffeine, 짧은 TTL)과 Redis L2로 구성된 2단계 캐시입니다.
+ * 조회는 L1 → L2 순으로 하며, L2에서 찾은 값은 L1에 채웁니다.
+ * 변경(put/evict/clear)은 두 계층에 모두 반영하고, 다른 노드의 L1은 Redis pub/sub으로 무효화합니다.
+ * L1 키는 L2(Redis)와 동일하게 문자열로 변환하여 저장합니다.
+ *
+ * get(key, loader) (@Cacheable(sync = true))는 다음을 추가로 제공합니다.
+ * 1. 키별 single-flight: 같은 키의 로더는 노드당 하나만 실행되고, 나머지 요청은 그 결과를 기다립니다.
+ * 2. 확률적 조기 갱신(XFetch): L1 만료가 가까울수록, 로딩이 오래 걸린 키일수록 높은 확률로
+ *    요청 하나가 백그라운드 스레드에 다시 로딩을 맡겨 L1/L2를 갱신합니다.
+ *    갱신을 일으킨 요청을 포함해 모든 요청은 기존 값을 그대로 반환하므로 응답 지연이 늘지 않습니다.
+ *    로더는 요청 스레드 밖에서 실행되므로 호출자의 트랜잭션/보안 컨텍스트에 의존하지 않아야 합니다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> l1;
+    private final Cache l2;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final long l1TtlNanos;
+    private final double earlyRefreshBeta;
+    private final Executor earlyRefreshExecutor;
+    private final int contentionLogThreshold;
+
+    private final ConcurrentHashMap<String, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+
+    /** 키 변경/제거 시 호출되는 리스너 (null 키는 전체 제거) */
+    private final List<Consumer<String>> evictionListeners = new CopyOnWriteArrayList<>();
+
+    /** 최근 로딩 시간 (L2에서 채운 항목의 조기 갱신 기준) */
+    private volatile long recentLoadNanos;
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+    private final Counter missLoads;
+    private final Counter earlyRefreshLoads;
+    private final Counter earlyRefreshRejected;
+    private final Counter coalescedRequests;
+    private final DistributionSummary loadWaiters;
+    private final Timer loadTimer;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> l1,
+                         Cache l2,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         MeterRegistry meterRegistry,
+                         Duration l1Ttl,
+                         double earlyRefreshBeta,
+                         Executor earlyRefreshExecutor,
+                         int contentionLogThreshold) {
+        super(true);
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.invalidationPublisher = invalidationPublisher;
+        this.l1TtlNanos = l1Ttl.toNanos();
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.earlyRefreshExecutor = earlyRefreshExecutor;
+        this.contentionLogThreshold = contentionLogThreshold;
+
+        this.l1Hit = tierCounter(meterRegistry, "l1", "hit");
+        this.l1Miss = tierCounter(meterRegistry, "l1", "miss");
+        this.l2Hit = tierCounter(meterRegistry, "l2", "hit");
+        this.l2Miss = tierCounter(meterRegistry, "l2", "miss");
+
+        this.missLoads = loaderCounter(meterRegistry, "miss");
+        this.earlyRefreshLoads = loaderCounter(meterRegistry, "early_refresh");
+        this.earlyRefreshRejected = Counter.builder("cache.loader.early_refresh.rejected")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.coalescedRequests = Counter.builder("cache.loader.coalesced")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.loadWaiters = DistributionSummary.builder("cache.loader.waiters")
+                .description("로딩 1회당 결과를 기다린 요청 수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder("cache.loader.duration")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        LocalEntry entry = lookupEntry(key, localKey(key));
+        return entry != null ? entry.storeValue() : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+
+        LocalEntry entry = lookupEntry(key, localKey);
+        if (entry != null) {
+            if (shouldRefreshEarly(entry) && !inFlightLoads.containsKey(localKey)) {
+                earlyRefresh(key, localKey, valueLoader);
+            }
+            return (T) fromStoreValue(entry.storeValue());
+        }
+
+        InFlightLoad load = new InFlightLoad();
+        InFlightLoad existing = inFlightLoads.putIfAbsent(localKey, load);
+        if (existing != null) {
+            return (T) awaitLoad(key, valueLoader, existing);
+        }
+
+        missLoads.increment();
+        return (T) fromStoreValue(loadAndStore(key, localKey, valueLoader, load));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        l1.put(localKey(key), new LocalEntry(toStoreValue(value), System.nanoTime(), recentLoadNanos));
+        invalidationPublisher.publish(name, localKey(key));
+        notifyEvicted(localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        l1.invalidate(localKey(key));
+        invalidationPublisher.publish(name, localKey(key));
+        notifyEvicted(localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        invalidationPublisher.publish(name, null);
+        notifyEvicted(null);
+    }
+
+    /** 다른 노드의 변경으로 인한 L1 무효화 (L2는 이미 반영됨) */
+    void evictLocal(String key) {
+        if (key == null) {
+            l1.invalidateAll();
+        } else {
+            l1.invalidate(key);
+        }
+        notifyEvicted(key);
+    }
+
+    /** 이 캐시 값을 바탕으로 만든 노드 로컬 인덱스 등이 함께 무효화되도록 리스너 등록 */
+    void addEvictionListener(Consumer<String> listener) {
+        evictionListeners.add(listener);
+    }
+
+    private void notifyEvicted(String key) {
+        for (Consumer<String> listener : evictionListeners) {
+            listener.accept(key);
+        }
+    }
+
+    private LocalEntry lookupEntry(Object key, String localKey) {
+        LocalEntry localEntry = l1.getIfPresent(localKey);
+        if (localEntry != null) {
+            l1Hit.increment();
+            return localEntry;
+        }
+        l1Miss.increment();
+
+        ValueWrapper remoteValue = l2.get(key);
+        if (remoteValue == null) {
+            l2Miss.increment();
+            return null;
+        }
+        l2Hit.increment();
+
+        // L2에서 채운 항목은 로딩 시간을 알 수 없으므로 최근 로딩 시간을 기준으로 조기 갱신
+        LocalEntry entry = new LocalEntry(toStoreValue(remoteValue.get()), System.nanoTime(), recentLoadNanos);
+        l1.put(localKey, entry);
+        return entry;
+    }
+
+    /**
+     * XFetch: now - delta * beta * ln(random) >= expiry 이면 갱신
+     * delta(로딩 시간)가 0이면 조기 갱신하지 않습니다.
+     */
+    private boolean shouldRefreshEarly(LocalEntry entry) {
+        if (earlyRefreshBeta <= 0 || entry.loadNanos() <= 0) {
+            return false;
+        }
+        long expiresAt = entry.writtenAt() + l1TtlNanos;
+        double random = ThreadLocalRandom.current().nextDouble();
+        return System.nanoTime() - entry.loadNanos() * earlyRefreshBeta * Math.log(random) >= expiresAt;
+    }
+
+    /** 조기 갱신 로딩을 전용 스레드 풀에 맡기고 바로 반환 (갱신 중 들어온 요청도 기존 값을 사용) */
+    private void earlyRefresh(Object key, String localKey, Callable<?> valueLoader) {
+        InFlightLoad load = new InFlightLoad();
+        if (inFlightLoads.putIfAbsent(localKey, load) != null) {
+            return;
+        }
+
+        try {
+            earlyRefreshExecutor.execute(() -> {
+                earlyRefreshLoads.increment();
+                try {
+                    loadAndStore(key, localKey, valueLoader, load);
+                } catch (ValueRetrievalException e) {
+                    // 기존 값이 아직 유효하므로 갱신 실패는 다음 조기 갱신이나 만료 후 로딩에 맡김
+                    log.warn("캐시 조기 갱신 실패: cache={}, key={}, error={}", name, localKey, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 풀이 가득 찬 경우 이번 갱신은 건너뜀 (L1 만료 시 일반 로딩으로 채워짐)
+            earlyRefreshRejected.increment();
+            inFlightLoads.remove(localKey, load);
+            load.future.completeExceptionally(new ValueRetrievalException(key, valueLoader, e));
+        }
+    }
+
+    private Object loadAndStore(Object key, String localKey, Callable<?> valueLoader, InFlightLoad load) {
+        long startedAt = System.nanoTime();
+        try {
+            Object value = valueLoader.call();
+            long loadNanos = System.nanoTime() - startedAt;
+            loadTimer.record(loadNanos, TimeUnit.NANOSECONDS);
+            recentLoadNanos = loadNanos;
+
+            // 조회 실패 후 채우는 값이므로 다른 노드의 L1을 무효화할 필요가 없음
+            Object storeValue = toStoreValue(value);
+            l2.put(key, value);
+            l1.put(localKey, new LocalEntry(storeValue, System.nanoTime(), loadNanos));
+
+            load.future.complete(storeValue);
+            return storeValue;
+        } catch (Exception e) {
+            ValueRetrievalException exception = new ValueRetrievalException(key, valueLoader, e);
+            load.future.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlightLoads.remove(localKey, load);
+            recordWaiters(localKey, load.waiters.get());
+        }
+    }
+
+    private Object awaitLoad(Object key, Callable<?> valueLoader, InFlightLoad load) {
+        load.waiters.incrementAndGet();
+        coalescedRequests.increment();
+        try {
+            return load.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ValueRetrievalException valueRetrievalException) {
+                throw valueRetrievalException;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private void recordWaiters(String localKey, int waiters) {
+        loadWaiters.record(waiters);
+        if (contentionLogThreshold > 0 && waiters >= contentionLogThreshold) {
+            log.info("캐시 로딩 경합: cache={}, key={}, waiters={}", name, localKey, waiters);
+        }
+    }
+
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter loaderCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("cache.loader.loads")
+                .tag("cache", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /** L1 항목 (저장 시각과 로딩 시간은 조기 갱신 판단에 사용) */
+    record LocalEntry(Object storeValue, long writtenAt, long loadNanos) {
+    }
+
+    private static final class InFlightLoad {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+
+}
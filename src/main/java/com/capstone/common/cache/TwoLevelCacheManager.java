@@ -0,0 +1,121 @@
+package com.capstone.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * TwoLevelCacheManager
+ * 캐시 이름별로 TwoLevelCache(L1 Caffeine + L2 Redis)를 생성합니다.
+ * 트랜잭션 안에서의 put/evict는 커밋 이후에 반영됩니다.
+ * 조기 갱신 로딩은 모든 캐시가 공유하는 전용 스레드 풀에서 실행되며, 풀이 가득 차면 갱신을 건너뜁니다.
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements DisposableBean {
+
+    private final CacheManager l2CacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+    private final long l1MaximumSize;
+    private final Duration l1Ttl;
+    private final double earlyRefreshBeta;
+    private final int contentionLogThreshold;
+    private final ThreadPoolExecutor earlyRefreshExecutor;
+
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager l2CacheManager,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                MeterRegistry meterRegistry,
+                                long l1MaximumSize,
+                                Duration l1Ttl,
+                                double earlyRefreshBeta,
+                                int earlyRefreshPoolSize,
+                                int earlyRefreshQueueCapacity,
+                                int contentionLogThreshold) {
+        this.l2CacheManager = l2CacheManager;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+        this.l1MaximumSize = l1MaximumSize;
+        this.l1Ttl = l1Ttl;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.contentionLogThreshold = contentionLogThreshold;
+        this.earlyRefreshExecutor = new ThreadPoolExecutor(
+                earlyRefreshPoolSize,
+                earlyRefreshPoolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(earlyRefreshQueueCapacity),
+                new CustomizableThreadFactory("cache-refresh-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        ExecutorServiceMetrics.monitor(meterRegistry, earlyRefreshExecutor, "cache.early-refresh", List.of());
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        Cache l2 = l2CacheManager.getCache(name);
+        if (l2 == null) {
+            return null;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCache.LocalEntry> l1 = Caffeine.newBuilder()
+                .maximumSize(l1MaximumSize)
+                .expireAfterWrite(l1Ttl)
+                .build();
+
+        return twoLevelCaches.computeIfAbsent(name,
+                n -> new TwoLevelCache(n, l1, l2, invalidationPublisher, meterRegistry,
+                        l1Ttl, earlyRefreshBeta, earlyRefreshExecutor, contentionLogThreshold));
+    }
+
+    /**
+     * 캐시 키 변경/제거 리스너 등록
+     * 이 노드의 변경(트랜잭션 커밋 이후)과 다른 노드의 무효화 메시지 모두에 대해 호출되며, 전체 제거 시 키는 null입니다.
+     */
+    public void addEvictionListener(String cacheName, Consumer<String> listener) {
+        getCache(cacheName);
+        TwoLevelCache cache = twoLevelCaches.get(cacheName);
+        if (cache == null) {
+            throw new IllegalArgumentException("캐시를 찾을 수 없습니다: " + cacheName);
+        }
+        cache.addEvictionListener(listener);
+    }
+
+    /** 다른 노드에서 발행한 무효화 메시지 처리 */
+    public void evictLocal(CacheInvalidationMessage message) {
+        if (invalidationPublisher.getNodeId().equals(message.origin())) {
+            return;
+        }
+        TwoLevelCache cache = twoLevelCaches.get(message.cacheName());
+        if (cache != null) {
+            cache.evictLocal(message.key());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        earlyRefreshExecutor.shutdown();
+    }
+
+}
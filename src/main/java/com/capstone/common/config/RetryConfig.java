@@ -0,0 +1,14 @@
+package com.capstone.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * 재시도 설정
+ * @Retryable(@OptimisticRetry 포함)을 활성화합니다.
+ * 재시도 advice는 트랜잭션 advice보다 먼저 적용되므로 매 시도마다 새 트랜잭션에서 실행됩니다.
+ */
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
@@ -0,0 +1,89 @@
+package com.capstone.common.config;
+
+import com.capstone.common.cache.CacheInvalidationListener;
+import com.capstone.common.cache.CacheInvalidationPublisher;
+import com.capstone.common.cache.TwoLevelCacheManager;
+import com.capstone.user.cache.UserSnapshotRedisSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+
+/**
+ * 2단계 캐시 설정
+ * L1: 노드별 Caffeine 캐시 (cache.l1.maximum-size, cache.l1.ttl)
+ * L2: Redis 캐시 (cache.l2.ttl), user 캐시는 UserSnapshot 전용 바이너리 형식으로 저장
+ * sync 캐시 로딩: 키별 single-flight, 확률적 조기 갱신 (cache.early-refresh.beta, 0이면 비활성화)
+ * 조기 갱신은 전용 스레드 풀에서 실행됩니다. (cache.early-refresh.pool-size, cache.early-refresh.queue-capacity)
+ * 노드 간 L1 무효화는 Redis pub/sub 채널(cache:invalidation)로 전달합니다.
+ */
+@Configuration
+@EnableCaching
+public class TwoLevelCacheConfig {
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate,
+                                                                 ObjectMapper objectMapper) {
+        return new CacheInvalidationPublisher(redisTemplate, objectMapper);
+    }
+
+    @Bean
+    @Primary
+    public TwoLevelCacheManager twoLevelCacheManager(RedisConnectionFactory connectionFactory,
+                                                     CacheInvalidationPublisher cacheInvalidationPublisher,
+                                                     MeterRegistry meterRegistry,
+                                                     @Value("${cache.l1.maximum-size:10000}") long l1MaximumSize,
+                                                     @Value("${cache.l1.ttl:30s}") Duration l1Ttl,
+                                                     @Value("${cache.l2.ttl:30m}") Duration l2Ttl,
+                                                     @Value("${cache.early-refresh.beta:1.0}") double earlyRefreshBeta,
+                                                     @Value("${cache.early-refresh.pool-size:2}") int earlyRefreshPoolSize,
+                                                     @Value("${cache.early-refresh.queue-capacity:256}") int earlyRefreshQueueCapacity,
+                                                     @Value("${cache.loader.contention-log-threshold:20}") int contentionLogThreshold) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig().entryTtl(l2Ttl);
+
+        RedisCacheManager l2CacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withCacheConfiguration("user", defaults.serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(new UserSnapshotRedisSerializer())))
+                .build();
+        l2CacheManager.initializeCaches();
+
+        return new TwoLevelCacheManager(
+                l2CacheManager,
+                cacheInvalidationPublisher,
+                meterRegistry,
+                l1MaximumSize,
+                l1Ttl,
+                earlyRefreshBeta,
+                earlyRefreshPoolSize,
+                earlyRefreshQueueCapacity,
+                contentionLogThreshold
+        );
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager twoLevelCacheManager,
+                                                                            ObjectMapper objectMapper) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new CacheInvalidationListener(twoLevelCacheManager, objectMapper),
+                new ChannelTopic(CacheInvalidationPublisher.CHANNEL)
+        );
+        return container;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.capstone.common.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 가상 스레드 WebSocket 설정
+ * spring.threads.virtual.enabled=true (Java 21 이상)인 경우에만 적용됩니다.
+ * Tomcat 요청 처리, @Async(applicationTaskExecutor), @Scheduled는 Spring Boot가 가상 스레드로 전환하고,
+ * 이 설정은 STOMP 수신/발신 채널의 메시지 처리를 고정 크기 스레드 풀 대신 메시지별 가상 스레드로 실행합니다.
+ * 메시지별로 스레드가 달라지므로 같은 세션의 수신/발신 순서는 broker 설정으로 보장합니다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadWebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(virtualThreadExecutor("ws-inbound-"));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(virtualThreadExecutor("ws-outbound-"));
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        // 같은 세션의 STOMP 프레임(SUBSCRIBE 후 SEND 등)을 받은 순서대로 처리
+        registry.setPreserveReceiveOrder(true);
+        // 할 일/멤버 변경 알림이 커밋 순서대로 도착하도록 세션별 발신 순서 유지
+        registry.setPreservePublishOrder(true);
+    }
+
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+}
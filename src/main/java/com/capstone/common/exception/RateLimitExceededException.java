@@ -0,0 +1,15 @@
+package com.capstone.common.exception;
+
+import lombok.Getter;
+
+/** 요청 제한(Rate Limit) 초과 예외 */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,28 @@
+package com.capstone.common.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * 엔드포인트별 기본 요청 제한 정책
+ * capacity는 순간 허용량, refillPerMinute는 분당 충전되는 토큰 수입니다.
+ * rate-limit.{key}.capacity / rate-limit.{key}.refill-per-minute 설정으로 변경할 수 있습니다.
+ */
+@Getter
+public enum RateLimitPolicy {
+
+    LOGIN("login", 10, 10),
+    FIND_USERNAME("find-username", 5, 5),
+    RESET_PASSWORD("reset-password", 5, 5),
+    VERIFY_TOKEN("verify-token", 60, 120),
+    OAUTH2_LOGIN("oauth2-login", 10, 10);
+
+    private final String key;
+    private final int capacity;
+    private final int refillPerMinute;
+
+    RateLimitPolicy(String key, int capacity, int refillPerMinute) {
+        this.key = key;
+        this.capacity = capacity;
+        this.refillPerMinute = refillPerMinute;
+    }
+}
@@ -0,0 +1,233 @@
+package com.capstone.common.ratelimit;
+
+import com.capstone.common.exception.RateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RateLimitService
+ * IP 및 사용자 아이디 단위의 토큰 버킷 요청 제한을 제공합니다.
+ * 1. 인스턴스 로컬 버킷으로 명백한 과다 요청을 Redis 조회 없이 거절합니다.
+ * 2. Redis 버킷(Lua 스크립트 1회 호출)으로 클러스터 전체 기준의 제한을 적용합니다.
+ * Redis 장애 시에는 로컬 버킷 결과만으로 처리합니다.
+ * 로컬 버킷은 개수 상한과 충전 시간 기준 만료가 있는 Caffeine 캐시에 보관합니다. (충전 시간 동안 사용되지 않은 버킷은 가득 찬 버킷과 같음)
+ * X-Forwarded-For는 rate-limit.trust-forwarded-for가 켜져 있고 직접 연결한 주소가 신뢰하는 프록시
+ * (rate-limit.trusted-proxies, CIDR 목록)인 경우에만 사용하며, 오른쪽부터 신뢰하지 않는 첫 주소를 클라이언트 IP로 봅니다.
+ */
+@Slf4j
+@Service
+public class RateLimitService {
+
+    private static final String RATE_LIMIT_PREFIX = "rate_limit:";
+    private static final int MAX_LOCAL_BUCKETS = 10_000;
+
+    /**
+     * KEYS=버킷 키 목록, ARGV[1]=capacity, ARGV[2]=초당 충전량
+     * 모든 버킷에 토큰이 있을 때만 소비하며, {허용 여부, 재시도까지 남은 밀리초}를 반환합니다.
+     */
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local rate = tonumber(ARGV[2]) " +
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local ttl = math.ceil(capacity * 1000 / rate) + 1000 " +
+            "local tokens = {} " +
+            "local retryAfter = 0 " +
+            "for i, key in ipairs(KEYS) do " +
+            "  local bucket = redis.call('HMGET', key, 'tokens', 'ts') " +
+            "  local t = tonumber(bucket[1]) or capacity " +
+            "  local ts = tonumber(bucket[2]) or now " +
+            "  t = math.min(capacity, t + math.max(0, now - ts) * rate / 1000) " +
+            "  tokens[i] = t " +
+            "  if t < 1 then retryAfter = math.max(retryAfter, math.ceil((1 - t) * 1000 / rate)) end " +
+            "end " +
+            "local allowed = 0 " +
+            "if retryAfter == 0 then allowed = 1 end " +
+            "for i, key in ipairs(KEYS) do " +
+            "  local t = tokens[i] " +
+            "  if allowed == 1 then t = t - 1 end " +
+            "  redis.call('HSET', key, 'tokens', tostring(t), 'ts', now) " +
+            "  redis.call('PEXPIRE', key, ttl) " +
+            "end " +
+            "return {allowed, retryAfter}",
+            List.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final boolean trustForwardedFor;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    private final Map<RateLimitPolicy, Limit> limits = new EnumMap<>(RateLimitPolicy.class);
+    private final Cache<String, TokenBucket> localBuckets;
+
+    public RateLimitService(RedisTemplate<String, String> redisTemplate,
+                            Environment environment,
+                            MeterRegistry meterRegistry,
+                            @Value("${rate-limit.enabled:true}") boolean enabled,
+                            @Value("${rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor,
+                            @Value("${rate-limit.trusted-proxies:}") List<String> trustedProxies) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.trustForwardedFor = trustForwardedFor;
+        this.trustedProxies = trustedProxies.stream()
+                .filter(StringUtils::hasText)
+                .map(cidr -> new IpAddressMatcher(cidr.trim()))
+                .toList();
+
+        for (RateLimitPolicy policy : RateLimitPolicy.values()) {
+            String prefix = "rate-limit." + policy.getKey();
+            int capacity = environment.getProperty(prefix + ".capacity", Integer.class, policy.getCapacity());
+            int refillPerMinute = environment.getProperty(prefix + ".refill-per-minute", Integer.class, policy.getRefillPerMinute());
+            limits.put(policy, new Limit(capacity, refillPerMinute / 60d));
+        }
+
+        // 가장 긴 충전 시간 동안 사용되지 않은 버킷은 어느 정책이든 가득 찬 상태
+        long refillWindowMillis = limits.values().stream()
+                .mapToLong(limit -> (long) Math.ceil(limit.capacity() * 1000 / limit.refillPerSecond()))
+                .max()
+                .orElse(60_000L);
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(MAX_LOCAL_BUCKETS)
+                .expireAfterAccess(Duration.ofMillis(refillWindowMillis))
+                .build();
+    }
+
+    /** 클라이언트 IP 기준 요청 제한 */
+    public void acquire(RateLimitPolicy policy, HttpServletRequest request) {
+        acquire(policy, request, null);
+    }
+
+    /**
+     * 클라이언트 IP 및 사용자 아이디 기준 요청 제한
+     * 제한을 초과하면 RateLimitExceededException을 던집니다.
+     */
+    public void acquire(RateLimitPolicy policy, HttpServletRequest request, String username) {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(2);
+        keys.add(RATE_LIMIT_PREFIX + policy.getKey() + ":ip:" + resolveClientIp(request));
+        if (StringUtils.hasText(username)) {
+            keys.add(RATE_LIMIT_PREFIX + policy.getKey() + ":user:" + username.toLowerCase(Locale.ROOT));
+        }
+
+        Limit limit = limits.get(policy);
+        int capacity = limit.capacity();
+        double refillPerSecond = limit.refillPerSecond();
+
+        // 1. 로컬 버킷 (빠른 경로, Redis 스크립트와 같이 모든 버킷에 토큰이 있을 때만 소비)
+        List<TokenBucket> buckets = keys.stream()
+                .map(key -> localBucket(key, capacity, refillPerSecond))
+                .toList();
+        long localRetryAfterMillis = 0L;
+        for (TokenBucket bucket : buckets) {
+            localRetryAfterMillis = Math.max(localRetryAfterMillis, bucket.retryAfterMillis());
+        }
+        if (localRetryAfterMillis > 0) {
+            reject(policy, "rejected_local", localRetryAfterMillis);
+        }
+        buckets.forEach(TokenBucket::tryConsume);
+
+        // 2. Redis 버킷 (클러스터 전체 기준)
+        long clusterRetryAfterMillis = tryConsumeCluster(keys, capacity, refillPerSecond);
+        if (clusterRetryAfterMillis > 0) {
+            reject(policy, "rejected_cluster", clusterRetryAfterMillis);
+        }
+
+        meterRegistry.counter("rate.limit.requests", "policy", policy.getKey(), "result", "allowed").increment();
+    }
+
+    private long tryConsumeCluster(List<String> keys, int capacity, double refillPerSecond) {
+        try {
+            List<?> result = redisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    keys,
+                    String.valueOf(capacity),
+                    String.valueOf(refillPerSecond)
+            );
+            if (result == null || result.size() < 2) {
+                return 0L;
+            }
+            boolean allowed = ((Number) result.get(0)).longValue() == 1L;
+            return allowed ? 0L : Math.max(1L, ((Number) result.get(1)).longValue());
+        } catch (Exception e) {
+            log.warn("Redis 요청 제한 확인 실패, 로컬 제한만 적용합니다: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    private TokenBucket localBucket(String key, int capacity, double refillPerSecond) {
+        return localBuckets.get(key, k -> new TokenBucket(capacity, refillPerSecond));
+    }
+
+    private void reject(RateLimitPolicy policy, String result, long retryAfterMillis) {
+        meterRegistry.counter("rate.limit.requests", "policy", policy.getKey(), "result", result).increment();
+        throw new RateLimitExceededException(Math.max(1L, (retryAfterMillis + 999) / 1000));
+    }
+
+    /** 신뢰하는 프록시를 거쳐 온 경우에만 X-Forwarded-For를 오른쪽부터 따라감 (왼쪽 값은 클라이언트가 임의로 지정 가능) */
+    private String resolveClientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!trustForwardedFor || !isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (!StringUtils.hasText(forwardedFor)) {
+            return remoteAddr;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        String clientIp = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!StringUtils.hasText(hop)) {
+                continue;
+            }
+            clientIp = hop;
+            if (!isTrustedProxy(hop)) {
+                break;
+            }
+        }
+        return clientIp;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        for (IpAddressMatcher trustedProxy : trustedProxies) {
+            try {
+                if (trustedProxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // IP 형식이 아닌 값은 신뢰하지 않음
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private record Limit(int capacity, double refillPerSecond) {
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.capstone.common.ratelimit;
+
+/**
+ * TokenBucket
+ * 인스턴스 로컬 토큰 버킷입니다. Redis 조회 전에 명백한 과다 요청을 걸러내는 용도로 사용합니다.
+ */
+public class TokenBucket {
+
+    private final int capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(int capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     * 성공하면 0, 실패하면 다음 토큰까지 남은 시간(밀리초)을 반환합니다.
+     */
+    public synchronized long tryConsume() {
+        refill();
+        if (tokens >= 1d) {
+            tokens -= 1d;
+            return 0L;
+        }
+        return (long) Math.ceil((1d - tokens) / refillPerNano / 1_000_000d);
+    }
+
+    /**
+     * 소비하지 않고 토큰 1개를 소비할 수 있는지 확인
+     * 가능하면 0, 불가능하면 다음 토큰까지 남은 시간(밀리초)을 반환합니다.
+     */
+    public synchronized long retryAfterMillis() {
+        refill();
+        if (tokens >= 1d) {
+            return 0L;
+        }
+        return (long) Math.ceil((1d - tokens) / refillPerNano / 1_000_000d);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.capstone.common.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.interceptor.MethodInvocationRetryCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * OptimisticLockRetryListener
+ * @OptimisticRetry 메서드의 버전 충돌과 재시도 결과를 메트릭으로 기록합니다.
+ * - optimistic.lock.conflicts{entity, method}: 충돌 횟수 (엔티티별 충돌률 확인용)
+ * - optimistic.lock.retries{method, outcome}: 충돌 후 재시도로 성공(recovered)/최종 실패(exhausted)
+ */
+@Slf4j
+@Component(OptimisticLockRetryListener.BEAN_NAME)
+@RequiredArgsConstructor
+public class OptimisticLockRetryListener implements RetryListener {
+
+    public static final String BEAN_NAME = "optimisticLockRetryListener";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        String method = methodName(callback);
+        String entity = entityName(throwable);
+        meterRegistry.counter("optimistic.lock.conflicts", "entity", entity, "method", method).increment();
+        log.debug("낙관적 락 충돌: method={}, entity={}, attempt={}", method, entity, context.getRetryCount());
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        // 충돌 없이 끝난 호출은 기록하지 않음
+        if (context.getRetryCount() == 0) {
+            return;
+        }
+        String method = methodName(callback);
+        String outcome = throwable == null ? "recovered" : "exhausted";
+        meterRegistry.counter("optimistic.lock.retries", "method", method, "outcome", outcome).increment();
+        if (throwable != null) {
+            log.warn("낙관적 락 재시도 실패: method={}, attempts={}", method, context.getRetryCount());
+        }
+    }
+
+    private String methodName(RetryCallback<?, ?> callback) {
+        if (callback instanceof MethodInvocationRetryCallback<?, ?> methodCallback) {
+            var method = methodCallback.getInvocation().getMethod();
+            return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        }
+        return "unknown";
+    }
+
+    private String entityName(Throwable throwable) {
+        if (throwable instanceof ObjectOptimisticLockingFailureException exception
+                && exception.getPersistentClassName() != null) {
+            String className = exception.getPersistentClassName();
+            return className.substring(className.lastIndexOf('.') + 1);
+        }
+        return "unknown";
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.capstone.common.retry;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+import java.lang.annotation.*;
+
+/**
+ * 낙관적 락(@Version) 충돌 시 재시도
+ * 버전 충돌로 트랜잭션이 실패하면 지터가 있는 지수 백오프 후 메서드 전체를 새 트랜잭션으로 다시 실행합니다.
+ * 외부 트랜잭션 없이 호출되는 @Transactional 서비스 메서드(컨트롤러 진입점)에만 사용합니다.
+ * 외부 트랜잭션 안에서 호출되면 충돌이 외부 커밋 시점에 발생하므로 재시도되지 않습니다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Retryable(
+        retryFor = OptimisticLockingFailureException.class,
+        maxAttemptsExpression = "${optimistic-retry.max-attempts:3}",
+        backoff = @Backoff(
+                delayExpression = "${optimistic-retry.delay-ms:10}",
+                maxDelayExpression = "${optimistic-retry.max-delay-ms:200}",
+                multiplier = 2,
+                random = true
+        ),
+        listeners = OptimisticLockRetryListener.BEAN_NAME
+)
+public @interface OptimisticRetry {
+}
@@ -0,0 +1,59 @@
+package com.capstone.common.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ClusterJobLock
+ * 여러 인스턴스가 같은 주기 작업(@Scheduled)을 동시에 실행하지 않도록 PostgreSQL advisory lock으로 보호합니다.
+ * 잠금은 작업 이름의 해시를 키로 하는 세션 잠금이며, 작업 동안 잠금용 커넥션 하나를 유지합니다.
+ * (인스턴스가 죽어 커넥션이 끊기면 잠금도 함께 해제됨)
+ * 다른 인스턴스가 실행 중이면 기다리지 않고 이번 주기를 건너뜁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClusterJobLock {
+
+    private final DataSource dataSource;
+
+    /**
+     * 잠금을 얻은 경우에만 작업 실행
+     * @return 실행 여부 (다른 인스턴스가 실행 중이면 false)
+     */
+    public boolean runExclusively(String jobName, Runnable job) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!call(connection, "SELECT pg_try_advisory_lock(hashtext(?))", jobName)) {
+                log.debug("다른 인스턴스가 실행 중이므로 건너뜀: job={}", jobName);
+                return false;
+            }
+            try {
+                job.run();
+                return true;
+            } finally {
+                call(connection, "SELECT pg_advisory_unlock(hashtext(?))", jobName);
+            }
+        } catch (SQLException e) {
+            // 다음 주기에 다시 시도
+            log.error("작업 잠금 확인 실패: job={}, error={}", jobName, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean call(Connection connection, String sql, String jobName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, jobName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.capstone.common.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * ETags
+ * 버전 값으로 강한(strong) ETag를 만듭니다.
+ * 응답 본문 대신 버전/개수 등 응답을 결정하는 값만 해시하므로, DTO를 만들거나 직렬화하지 않고도 변경 여부를 판단할 수 있습니다.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /** 값 목록으로 ETag 생성 (따옴표 포함) */
+    public static String of(Object... parts) {
+        String raw = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(":"));
+        return "\"" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.capstone.member.cache;
+
+import com.capstone.common.cache.TwoLevelCacheManager;
+import com.capstone.member.dto.PinMembership;
+import com.capstone.member.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * PinAuthorizationIndex
+ * "사용자 U가 핀 P의 멤버/소유자인가"를 메모리에서 확인하는 노드 로컬 권한 인덱스입니다.
+ * 사용자별로 멤버인 핀 ID와 소유한 핀 ID를 압축 비트맵(RoaringBitmap)으로 보관합니다.
+ * - 처음 조회할 때 해당 사용자의 멤버십만 로딩하며, 최대 사용자 수(LRU)와 TTL로 크기를 제한합니다.
+ * - 멤버십 캐시(userPins)의 키가 변경/제거되면 (다른 노드 포함) 해당 사용자의 비트맵을 제거합니다.
+ * 비트맵은 만든 뒤 변경하지 않으므로 조회는 잠금과 할당 없이 동작합니다.
+ */
+@Slf4j
+@Component
+public class PinAuthorizationIndex {
+
+    private static final String USER_PINS_CACHE = "userPins";
+
+    private final MemberRepository memberRepository;
+    private final Cache<Long, UserPinBitmaps> bitmaps;
+
+    @Autowired
+    public PinAuthorizationIndex(MemberRepository memberRepository,
+                                 TwoLevelCacheManager cacheManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${pin-authorization.maximum-users:100000}") long maximumUsers,
+                                 @Value("${pin-authorization.ttl:10m}") Duration ttl) {
+        this(memberRepository, meterRegistry, maximumUsers, ttl);
+        cacheManager.addEvictionListener(USER_PINS_CACHE, key -> {
+            if (key == null) {
+                invalidateAll();
+            } else {
+                invalidate(Long.valueOf(key));
+            }
+        });
+    }
+
+    /** 캐시 무효화 연동 없이 생성 (벤치마크용) */
+    PinAuthorizationIndex(MemberRepository memberRepository,
+                          MeterRegistry meterRegistry,
+                          long maximumUsers,
+                          Duration ttl) {
+        this.memberRepository = memberRepository;
+        this.bitmaps = Caffeine.newBuilder()
+                .maximumSize(maximumUsers)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, bitmaps, "pinAuthorization");
+    }
+
+    /** 핀 멤버(소유자 포함) 여부 */
+    public boolean isMember(Long userId, Long pinId) {
+        if (!isIndexable(pinId)) {
+            return memberRepository.existsByPinIdAndUserId(pinId, userId);
+        }
+        return bitmapsOf(userId).memberPins().contains(pinId.intValue());
+    }
+
+    /** 핀 소유자 여부 */
+    public boolean isOwner(Long userId, Long pinId) {
+        if (!isIndexable(pinId)) {
+            return memberRepository.findByPinIdAndUserId(pinId, userId)
+                    .map(member -> PinMembership.from(member).isOwner())
+                    .orElse(false);
+        }
+        return bitmapsOf(userId).ownerPins().contains(pinId.intValue());
+    }
+
+    public void invalidate(Long userId) {
+        bitmaps.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        bitmaps.invalidateAll();
+    }
+
+    private UserPinBitmaps bitmapsOf(Long userId) {
+        UserPinBitmaps cached = bitmaps.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        // 로딩 중 무효화되면 Caffeine이 로딩 완료 후 제거하므로 오래된 비트맵이 남지 않음
+        return bitmaps.get(userId, this::load);
+    }
+
+    private UserPinBitmaps load(Long userId) {
+        RoaringBitmap memberPins = new RoaringBitmap();
+        RoaringBitmap ownerPins = new RoaringBitmap();
+
+        for (PinMembership membership : memberRepository.findMembershipsByUserId(userId)) {
+            if (!isIndexable(membership.getPinId())) {
+                continue;
+            }
+            int pinId = membership.getPinId().intValue();
+            memberPins.add(pinId);
+            if (membership.isOwner()) {
+                ownerPins.add(pinId);
+            }
+        }
+
+        memberPins.runOptimize();
+        ownerPins.runOptimize();
+        return new UserPinBitmaps(memberPins, ownerPins);
+    }
+
+    /** 비트맵은 32비트 정수만 담으므로 범위를 벗어난 핀 ID는 DB로 확인 */
+    private boolean isIndexable(Long pinId) {
+        return pinId != null && pinId >= 0 && pinId <= Integer.MAX_VALUE;
+    }
+
+    private record UserPinBitmaps(RoaringBitmap memberPins, RoaringBitmap ownerPins) {
+    }
+
+}
@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -57,6 +58,36 @@ public class MemberController {
         return ApiResponse.success(memberInfo, "멤버가 추가되었습니다.");
     }
 
+    /**
+     * POST /api/members/{pinId}/bulk
+     * 핀에 여러 멤버를 한 번에 추가합니다.
+     * 핀 소유자만 멤버를 추가할 수 있습니다.
+     */
+    @Operation(
+        summary = "멤버 일괄 추가",
+        description = "핀에 여러 멤버를 한 번에 추가합니다. 핀 소유자만 멤버를 추가할 수 있습니다. " +
+                "찾을 수 없거나 이미 속한 사용자는 건너뛰며, 최대 인원을 넘으면 아무도 추가되지 않습니다.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "멤버 일괄 추가 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "권한 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "핀을 찾을 수 없음")
+    })
+    @PostMapping("/{pinId}/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<BulkAddMemberResponse> addMembers(
+            @Parameter(description = "핀 ID", required = true, example = "1")
+            @PathVariable Long pinId,
+            @Parameter(description = "멤버 일괄 추가 요청 정보", required = true)
+            @Valid @RequestBody BulkAddMemberRequest request,
+            HttpServletRequest httpRequest) {
+        Long userId = securityUtil.getUserIdFromRequest(httpRequest);
+        BulkAddMemberResponse response = memberService.addMembers(userId, pinId, request);
+        return ApiResponse.success(response, "멤버가 추가되었습니다.");
+    }
+
     /**
      * GET /api/members/{pinId}
      * 핀에 속한 모든 멤버를 조회합니다.
@@ -69,12 +100,17 @@ public class MemberController {
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "핀을 찾을 수 없음")
     })
     @GetMapping("/{pinId}")
     public ApiResponse<List<MemberInfo>> getMembers(
             @Parameter(description = "핀 ID", required = true, example = "1")
-            @PathVariable Long pinId) {
+            @PathVariable Long pinId,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(memberService.getMembersETag(pinId))) {
+            return null;
+        }
         List<MemberInfo> members = memberService.getMembersByPinId(pinId);
         return ApiResponse.success(members);
     }
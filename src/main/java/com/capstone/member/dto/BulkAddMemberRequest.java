@@ -0,0 +1,20 @@
+package com.capstone.member.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAddMemberRequest {
+
+    @NotEmpty(message = "초대하려는 사용자의 username 목록은 필수입니다.")
+    @Size(max = 7, message = "한 번에 최대 7명까지 초대할 수 있습니다.")
+    private List<@NotBlank(message = "username은 비어 있을 수 없습니다.") String> usernames;
+}
@@ -0,0 +1,20 @@
+package com.capstone.member.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BulkAddMemberResponse {
+
+    /** 추가된 멤버 */
+    private List<MemberInfo> added;
+
+    /** 이미 그룹에 속해있어 건너뛴 username */
+    private List<String> alreadyMembers;
+
+    /** 사용자를 찾을 수 없어 건너뛴 username */
+    private List<String> notFound;
+}
@@ -0,0 +1,43 @@
+package com.capstone.member.dto;
+
+import com.capstone.member.entity.Member;
+import com.capstone.member.enums.MemberRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * PinMembership
+ * 멤버십 캐시에 저장되는 불변 멤버 정보입니다.
+ * 권한 확인에 필요한 값(멤버 ID, 핀 ID, 사용자 ID, 역할)만 포함합니다.
+ */
+@Value
+@Builder
+@AllArgsConstructor
+public class PinMembership implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    Long memberId;
+    Long pinId;
+    Long userId;
+    MemberRole role;
+
+    public boolean isOwner() {
+        return role == MemberRole.OWNER;
+    }
+
+    public static PinMembership from(Member member) {
+        return PinMembership.builder()
+                .memberId(member.getId())
+                .pinId(member.getPin().getId())
+                .userId(member.getUser().getId())
+                .role(member.getRole())
+                .build();
+    }
+
+}
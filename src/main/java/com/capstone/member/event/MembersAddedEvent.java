@@ -0,0 +1,9 @@
+package com.capstone.member.event;
+
+import com.capstone.member.dto.MemberInfo;
+
+import java.util.List;
+
+/** 핀에 멤버가 추가됨 (커밋 이후 구독자에게 한 번에 알림) */
+public record MembersAddedEvent(Long pinId, List<MemberInfo> members) {
+}
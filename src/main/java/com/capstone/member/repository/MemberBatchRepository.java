@@ -0,0 +1,63 @@
+package com.capstone.member.repository;
+
+import com.capstone.member.enums.MemberRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * MemberBatchRepository
+ * 여러 멤버를 JDBC batch INSERT 한 번으로 추가합니다.
+ * (members.id는 IDENTITY 컬럼이라 JPA로는 batch INSERT가 되지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MemberBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO members (pin_id, user_id, role, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 핀에 사용자들을 같은 역할로 추가
+     * @return 생성된 멤버 ID 목록 (userIds 순서)
+     */
+    public List<Long> insertAll(Long pinId, List<Long> userIds, MemberRole role, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        statement.setLong(1, pinId);
+                        statement.setLong(2, userIds.get(i));
+                        statement.setString(3, role.name());
+                        statement.setTimestamp(4, timestamp);
+                        statement.setTimestamp(5, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return userIds.size();
+                    }
+                },
+                keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get("id")).longValue())
+                .toList();
+    }
+
+}
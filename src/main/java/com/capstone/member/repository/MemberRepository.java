@@ -1,22 +1,27 @@
 package com.capstone.member.repository;
 
+import com.capstone.member.dto.PinMembership;
 import com.capstone.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
-    /** 특정 핀에 속한 모든 그룹 멤버 조회 */
-    List<Member> findByPinId(Long pinId);
+    /** 특정 핀에 속한 모든 그룹 멤버 조회 (핀/사용자 함께 로딩) */
+    @Query("SELECT m FROM Member m JOIN FETCH m.pin JOIN FETCH m.user WHERE m.pin.id = :pinId")
+    List<Member> findByPinId(@Param("pinId") Long pinId);
 
-    /** 특정 사용자가 속한 모든 그룹 조회 */
-    List<Member> findByUserId(Long userId);
+    /** 특정 사용자가 속한 모든 그룹 조회 (핀/사용자 함께 로딩) */
+    @Query("SELECT m FROM Member m JOIN FETCH m.pin JOIN FETCH m.user WHERE m.user.id = :userId")
+    List<Member> findByUserId(@Param("userId") Long userId);
 
     /** 특정 핀에 속한 특정 사용자의 그룹 조회 */
     Optional<Member> findByPinIdAndUserId(Long pinId, Long userId);
@@ -27,4 +32,35 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     /** 특정 사용자가 특정 핀에 속해있는지 확인 */
     boolean existsByPinIdAndUserId(Long pinId, Long userId);
+
+    /** 특정 핀의 모든 멤버 일괄 삭제 */
+    @Modifying
+    @Query("DELETE FROM Member m WHERE m.pin.id = :pinId")
+    int deleteAllByPinIdInBulk(@Param("pinId") Long pinId);
+
+    /** 특정 핀의 멤버십 목록 조회 (멤버십 캐시용, 엔티티 로딩 없음) */
+    @Query("SELECT new com.capstone.member.dto.PinMembership(m.id, m.pin.id, m.user.id, m.role) FROM Member m WHERE m.pin.id = :pinId")
+    List<PinMembership> findMembershipsByPinId(@Param("pinId") Long pinId);
+
+    /** 특정 사용자의 멤버십 목록 조회 (권한 인덱스용, 엔티티 로딩 없음) */
+    @Query("SELECT new com.capstone.member.dto.PinMembership(m.id, m.pin.id, m.user.id, m.role) FROM Member m WHERE m.user.id = :userId")
+    List<PinMembership> findMembershipsByUserId(@Param("userId") Long userId);
+
+    /** ID 목록으로 멤버 조회 (핀/사용자 함께 로딩, 동기화용) */
+    @Query("SELECT m FROM Member m JOIN FETCH m.pin JOIN FETCH m.user WHERE m.id IN :ids")
+    List<Member> findAllWithPinAndUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 핀 멤버 목록의 버전 요약 (ETag용, 응답에 포함되는 핀 제목/사용자 이름의 버전 포함, 엔티티 로딩 없음) */
+    @Query(value = """
+            SELECT md5(COALESCE(string_agg(concat_ws(':', m.id, m.version, u.version, p.version), ',' ORDER BY m.id), ''))
+            FROM members m
+            JOIN users u ON u.id = m.user_id
+            JOIN pins p ON p.id = m.pin_id
+            WHERE m.pin_id = :pinId
+            """, nativeQuery = true)
+    String findListVersionByPinId(@Param("pinId") Long pinId);
+
+    /** 특정 사용자가 속한 핀 ID 목록 조회 (멤버십 캐시용) */
+    @Query("SELECT m.pin.id FROM Member m WHERE m.user.id = :userId")
+    List<Long> findPinIdsByUserId(@Param("userId") Long userId);
 }
@@ -1,12 +1,16 @@
 package com.capstone.member.service;
 
+import com.capstone.member.dto.PinMembership;
 import com.capstone.member.entity.Member;
 import com.capstone.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +18,10 @@ import java.util.Optional;
  * MemberCacheService
  * 멤버 엔티티의 CRUD 작업에 대한 캐싱 기능을 제공합니다.
  * 데이터베이스와의 직접적인 상호작용은 MemberRepository를 통해 이루어집니다.
+ * 권한 확인용 멤버십은 두 캐시로 관리합니다.
+ * - pinMembers: pinId → 멤버십 목록 (역할 포함)
+ * - userPins: userId → 속한 핀 ID 목록
+ * 멤버 저장/삭제 및 핀 삭제 시 해당 핀과 사용자의 항목만 제거합니다.
  */
 @Slf4j
 @Service
@@ -21,7 +29,11 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class MemberCacheService {
 
+    private static final String PIN_MEMBERS_CACHE = "pinMembers";
+    private static final String USER_PINS_CACHE = "userPins";
+
     private final MemberRepository memberRepository;
+    private final CacheManager cacheManager;
 
     /** 멤버 ID로 멤버 조회 */
     public Optional<Member> getMemberById(Long memberId) {
@@ -33,35 +45,132 @@ public class MemberCacheService {
         return memberRepository.findByPinId(pinId);
     }
 
+    /** 특정 핀 멤버 목록의 버전 요약 (ETag용) */
+    public String getListVersionByPinId(Long pinId) {
+        return memberRepository.findListVersionByPinId(pinId);
+    }
+
     /** 특정 사용자가 속한 모든 멤버 조회 */
     public List<Member> getMembersByUserId(Long userId) {
         return memberRepository.findByUserId(userId);
     }
 
-    /** 특정 핀에 속한 특정 사용자의 멤버 조회 */
+    /** 특정 핀에 속한 특정 사용자의 멤버 조회 (수정/삭제용 엔티티) */
     public Optional<Member> getMemberByPinIdAndUserId(Long pinId, Long userId) {
         return memberRepository.findByPinIdAndUserId(pinId, userId);
     }
 
+    /** 특정 핀의 멤버십 목록 조회 (캐시) */
+    public List<PinMembership> getPinMemberships(Long pinId) {
+        Cache cache = cacheManager.getCache(PIN_MEMBERS_CACHE);
+        if (cache == null) {
+            return memberRepository.findMembershipsByPinId(pinId);
+        }
+        return cache.get(pinId, () -> memberRepository.findMembershipsByPinId(pinId));
+    }
+
+    /** 특정 핀에 속한 특정 사용자의 멤버십 조회 (권한 확인용) */
+    public Optional<PinMembership> getMembership(Long pinId, Long userId) {
+        return getPinMemberships(pinId).stream()
+                .filter(membership -> membership.getUserId().equals(userId))
+                .findFirst();
+    }
+
+    /** 특정 사용자가 속한 핀 ID 목록 조회 (캐시) */
+    public List<Long> getPinIdsByUserId(Long userId) {
+        Cache cache = cacheManager.getCache(USER_PINS_CACHE);
+        if (cache == null) {
+            return memberRepository.findPinIdsByUserId(userId);
+        }
+        return cache.get(userId, () -> memberRepository.findPinIdsByUserId(userId));
+    }
+
     /** 특정 핀의 멤버 수 조회 */
     public Long countByPinId(Long pinId) {
-        return memberRepository.countByPinId(pinId);
+        return (long) getPinMemberships(pinId).size();
     }
 
     /** 특정 사용자가 특정 핀에 속해있는지 확인 */
     public boolean existsByPinIdAndUserId(Long pinId, Long userId) {
-        return memberRepository.existsByPinIdAndUserId(pinId, userId);
+        return getMembership(pinId, userId).isPresent();
     }
 
     /** 멤버 저장 */
     @Transactional
     public Member saveMember(Member member) {
-        return memberRepository.save(member);
+        Member savedMember = memberRepository.saveAndFlush(member);
+        evictMembership(savedMember.getPin().getId(), savedMember.getUser().getId());
+        return savedMember;
     }
 
     /** 멤버 삭제 */
     @Transactional
     public void deleteMember(Member member) {
         memberRepository.delete(member);
+        evictMembership(member.getPin().getId(), member.getUser().getId());
+    }
+
+    /**
+     * 핀 삭제 시 멤버십 캐시 제거
+     * 멤버는 DB에서 ON DELETE CASCADE로 삭제되므로 핀 삭제 전에 호출하여 소속 사용자를 확인합니다.
+     */
+    public void evictPin(Long pinId) {
+        Cache userPinsCache = cacheManager.getCache(USER_PINS_CACHE);
+        if (userPinsCache != null) {
+            for (PinMembership membership : memberRepository.findMembershipsByPinId(pinId)) {
+                userPinsCache.evict(membership.getUserId());
+            }
+        }
+
+        Cache pinMembersCache = cacheManager.getCache(PIN_MEMBERS_CACHE);
+        if (pinMembersCache != null) {
+            pinMembersCache.evict(pinId);
+        }
+    }
+
+    /**
+     * 사용자 삭제 시 멤버십 캐시 제거
+     * 멤버는 DB에서 ON DELETE CASCADE로 삭제되므로 사용자 삭제 전에 호출합니다.
+     */
+    public void evictUser(Long userId) {
+        Cache pinMembersCache = cacheManager.getCache(PIN_MEMBERS_CACHE);
+        if (pinMembersCache != null) {
+            for (Long pinId : memberRepository.findPinIdsByUserId(userId)) {
+                pinMembersCache.evict(pinId);
+            }
+        }
+
+        Cache userPinsCache = cacheManager.getCache(USER_PINS_CACHE);
+        if (userPinsCache != null) {
+            userPinsCache.evict(userId);
+        }
     }
+
+    /** 일괄 추가 등으로 여러 사용자의 멤버십이 바뀐 경우 캐시 제거 */
+    public void evictMemberships(Long pinId, Collection<Long> userIds) {
+        Cache pinMembersCache = cacheManager.getCache(PIN_MEMBERS_CACHE);
+        if (pinMembersCache != null) {
+            pinMembersCache.evict(pinId);
+        }
+
+        Cache userPinsCache = cacheManager.getCache(USER_PINS_CACHE);
+        if (userPinsCache != null) {
+            for (Long userId : userIds) {
+                userPinsCache.evict(userId);
+            }
+        }
+    }
+
+    private void evictMembership(Long pinId, Long userId) {
+        Cache pinMembersCache = cacheManager.getCache(PIN_MEMBERS_CACHE);
+        if (pinMembersCache != null) {
+            pinMembersCache.evict(pinId);
+        }
+
+        Cache userPinsCache = cacheManager.getCache(USER_PINS_CACHE);
+        if (userPinsCache != null) {
+            userPinsCache.evict(userId);
+        }
+    }
+
 }
@@ -1,18 +1,31 @@
 package com.capstone.member.service;
 
+import com.capstone.common.retry.OptimisticRetry;
+import com.capstone.common.util.ETags;
+import com.capstone.member.cache.PinAuthorizationIndex;
 import com.capstone.member.dto.*;
 import com.capstone.member.entity.Member;
 import com.capstone.member.enums.MemberRole;
+import com.capstone.member.event.MembersAddedEvent;
+import com.capstone.member.repository.MemberBatchRepository;
+import com.capstone.pin.dto.PinInfo;
 import com.capstone.pin.entity.Pin;
 import com.capstone.pin.repository.PinRepository;
-import com.capstone.user.entity.User;
+import com.capstone.pin.service.PinCacheService;
+import com.capstone.pin.service.PinTeardownService;
+import com.capstone.user.dto.UserSnapshot;
+import com.capstone.user.repository.UserRepository;
 import com.capstone.user.service.UserCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,45 +41,46 @@ import java.util.stream.Collectors;
 public class MemberService {
 
     private final MemberCacheService memberCacheService;
+    private final PinAuthorizationIndex pinAuthorizationIndex;
     private final PinRepository pinRepository;
+    private final PinCacheService pinCacheService;
+    private final PinTeardownService pinTeardownService;
     private final UserCacheService userCacheService;
+    private final MemberBatchRepository memberBatchRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int MAX_GROUP_MEMBERS = 8;
 
     /** 멤버 생성 (사용자가 핀을 통해 그룹에 참여) */
     @Transactional
     public MemberInfo createMember(Long userId, CreateMemberRequest request) {
-        // 사용자 조회
-        User user = userCacheService.getUserById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 사용자 존재 확인
+        if (userCacheService.getUserById(userId).isEmpty()) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
 
         // 핀 조회
-        Pin pin = pinRepository.findById(request.getPinId())
+        Pin pin = pinRepository.findActiveById(request.getPinId())
                 .orElseThrow(() -> new IllegalArgumentException("핀을 찾을 수 없습니다."));
 
         // 이미 핀에 속해있는지 확인
-        if (memberCacheService.existsByPinIdAndUserId(request.getPinId(), userId)) {
+        if (pinAuthorizationIndex.isMember(userId, request.getPinId())) {
             throw new IllegalArgumentException("이미 해당 핀에 속해있습니다.");
         }
 
-        // 핀 멤버 수 확인
-        Long currentMemberCount = memberCacheService.countByPinId(request.getPinId());
-        if (currentMemberCount >= MAX_GROUP_MEMBERS) {
+        // 핀 멤버 수 증가 (최대 인원 미만일 때만, 동시 참여 시에도 초과하지 않음)
+        if (!pinCacheService.incrementMemberCount(request.getPinId(), MAX_GROUP_MEMBERS)) {
             throw new IllegalArgumentException("그룹 멤버가 최대 인원(" + MAX_GROUP_MEMBERS + "명)에 도달했습니다.");
         }
 
         // 멤버 생성 (핀 소유자는 OWNER 역할)
         Member member = Member.builder()
                 .pin(pin)
-                .user(user)
+                .user(userCacheService.getUserReference(userId))
                 .role(MemberRole.OWNER)
                 .build();
 
-        // 핀의 멤버 수 증가
-        pin.incrementMemberCount();
-        pinRepository.save(pin);
-
-        Member savedMember = memberCacheService.saveMember(member);
+        Member savedMember = saveMember(member, "이미 해당 핀에 속해있습니다.");
         log.info("그룹 생성 성공: groupId={}, userId={}, pinId={}", savedMember.getId(), userId, request.getPinId());
 
         return MemberInfo.from(savedMember);
@@ -88,6 +102,11 @@ public class MemberService {
                 .collect(Collectors.toList());
     }
 
+    /** 핀 멤버 목록 ETag (버전 요약 쿼리 한 번) */
+    public String getMembersETag(Long pinId) {
+        return ETags.of("members", pinId, memberCacheService.getListVersionByPinId(pinId));
+    }
+
     /** 그룹 단건 조회 */
     public MemberInfo getMember(Long memberId) {
         Member member = memberCacheService.getMemberById(memberId)
@@ -97,6 +116,7 @@ public class MemberService {
 
 
     /** 그룹 삭제 (그룹 탈퇴) */
+    @OptimisticRetry
     @Transactional
     public void deleteMember(Long userId, Long memberId) {
         // 그룹 조회
@@ -108,12 +128,9 @@ public class MemberService {
             throw new IllegalArgumentException("본인의 그룹 멤버십만 삭제할 수 있습니다.");
         }
 
-        // 핀의 멤버 수 감소
-        Pin pin = member.getPin();
-        pin.decrementMemberCount();
-        pinRepository.save(pin);
-
+        // 멤버 삭제 후 핀의 멤버 수 감소 (감소 문장이 영속성 컨텍스트를 비우므로 삭제를 먼저 반영)
         memberCacheService.deleteMember(member);
+        pinCacheService.decrementMemberCount(member.getPin().getId());
         log.info("그룹 삭제 성공: groupId={}, userId={}", memberId, userId);
     }
 
@@ -121,20 +138,21 @@ public class MemberService {
     @Transactional
     public MemberInfo addMember(Long requestUserId, Long pinId, AddMemberRequest request) {
         // 요청자 확인
-        Member member = memberCacheService.getMemberByPinIdAndUserId(pinId, requestUserId)
-                .orElseThrow(() -> new IllegalArgumentException("핀 멤버를 찾을 수 없습니다."));
+        if (!pinAuthorizationIndex.isMember(requestUserId, pinId)) {
+            throw new IllegalArgumentException("핀 멤버를 찾을 수 없습니다.");
+        }
 
         // 핀 조회
-        Pin pin = pinRepository.findById(pinId)
+        Pin pin = pinRepository.findActiveById(pinId)
                 .orElseThrow(() -> new IllegalArgumentException("핀을 찾을 수 없습니다."));
 
         // 요청자가 핀의 소유자인지 확인
-        if (member.getRole() == MemberRole.MEMBER) {
+        if (!pinAuthorizationIndex.isOwner(requestUserId, pinId)) {
             throw new IllegalArgumentException("핀 소유자만 멤버를 추가할 수 있습니다.");
         }
 
         // 추가할 사용자 조회
-        User user = userCacheService.getUserByUsername(request.getUsername())
+        UserSnapshot user = userCacheService.getUserByUsername(request.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("추가할 사용자를 찾을 수 없습니다."));
 
         // 이미 그룹에 속해있는지 확인
@@ -142,44 +160,131 @@ public class MemberService {
             throw new IllegalArgumentException("이미 해당 그룹에 속해있는 사용자입니다.");
         }
 
-        // 그룹 멤버 수 확인
-        Long currentMemberCount = memberCacheService.countByPinId(pinId);
-        if (currentMemberCount >= MAX_GROUP_MEMBERS) {
+        // 그룹 멤버 수 증가 (최대 인원 미만일 때만, 동시 참여 시에도 초과하지 않음)
+        if (!pinCacheService.incrementMemberCount(pinId, MAX_GROUP_MEMBERS)) {
             throw new IllegalArgumentException("그룹 멤버가 최대 인원(" + MAX_GROUP_MEMBERS + "명)에 도달했습니다.");
         }
 
         // 그룹 멤버 추가 (MEMBER 역할)
         Member newMember = Member.builder()
                 .pin(pin)
-                .user(user)
+                .user(userCacheService.getUserReference(user.getId()))
                 .role(MemberRole.MEMBER)
                 .build();
 
-        memberCacheService.saveMember(newMember);
-
-        // 핀의 멤버 수 증가
-        pin.incrementMemberCount();
-        pinRepository.save(pin);
-
-        Member savedMember = memberCacheService.saveMember(member);
+        Member savedMember = saveMember(newMember, "이미 해당 그룹에 속해있는 사용자입니다.");
         log.info("그룹 멤버 추가 성공: pinId={}, newUserId={}", pinId, user.getId());
 
         return MemberInfo.from(savedMember);
     }
 
-    /** 그룹 멤버 제거 */
+    /**
+     * 그룹 멤버 일괄 추가
+     * 요청자 권한, 핀, 사용자, 기존 멤버십을 각각 한 번씩만 확인하고 멤버는 batch INSERT로 추가합니다.
+     * 사용자를 찾을 수 없거나 이미 속한 username은 건너뛰며, 최대 인원을 넘으면 아무도 추가하지 않습니다.
+     */
     @Transactional
-    public void removeMember(Long requestUserId, Long pinId, Long memberId) {
+    public BulkAddMemberResponse addMembers(Long requestUserId, Long pinId, BulkAddMemberRequest request) {
         // 요청자 확인
-        Member requester = memberCacheService.getMemberByPinIdAndUserId(pinId, requestUserId)
-                .orElseThrow(() -> new IllegalArgumentException("핀 멤버를 찾을 수 없습니다."));
+        if (!pinAuthorizationIndex.isMember(requestUserId, pinId)) {
+            throw new IllegalArgumentException("핀 멤버를 찾을 수 없습니다.");
+        }
+
+        // 요청자가 핀의 소유자인지 확인
+        if (!pinAuthorizationIndex.isOwner(requestUserId, pinId)) {
+            throw new IllegalArgumentException("핀 소유자만 멤버를 추가할 수 있습니다.");
+        }
 
         // 핀 조회
-        Pin pin = pinRepository.findById(pinId)
+        PinInfo pin = pinCacheService.getPinInfo(pinId)
                 .orElseThrow(() -> new IllegalArgumentException("핀을 찾을 수 없습니다."));
 
+        // 추가할 사용자 일괄 조회 (중복 username 제거)
+        Set<String> usernames = new LinkedHashSet<>(request.getUsernames());
+        Map<String, UserRepository.UserSummary> users = userCacheService.getUserSummariesByUsernames(usernames).stream()
+                .collect(Collectors.toMap(UserRepository.UserSummary::getUsername, Function.identity()));
+
+        // 이미 그룹에 속한 사용자 확인
+        Set<Long> existingUserIds = memberCacheService.getPinMemberships(pinId).stream()
+                .map(PinMembership::getUserId)
+                .collect(Collectors.toSet());
+
+        List<UserRepository.UserSummary> newUsers = new ArrayList<>();
+        List<String> alreadyMembers = new ArrayList<>();
+        List<String> notFound = new ArrayList<>();
+        for (String username : usernames) {
+            UserRepository.UserSummary user = users.get(username);
+            if (user == null) {
+                notFound.add(username);
+            } else if (existingUserIds.contains(user.getId())) {
+                alreadyMembers.add(username);
+            } else {
+                newUsers.add(user);
+            }
+        }
+
+        List<MemberInfo> added = new ArrayList<>();
+        if (!newUsers.isEmpty()) {
+            // 그룹 멤버 수 증가 (추가 후 최대 인원 이하일 때만)
+            if (!pinCacheService.incrementMemberCount(pinId, newUsers.size(), MAX_GROUP_MEMBERS)) {
+                throw new IllegalArgumentException("그룹 멤버가 최대 인원(" + MAX_GROUP_MEMBERS + "명)을 초과합니다.");
+            }
+
+            // 그룹 멤버 일괄 추가 (MEMBER 역할)
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> userIds = newUsers.stream().map(UserRepository.UserSummary::getId).toList();
+            List<Long> memberIds;
+            try {
+                memberIds = memberBatchRepository.insertAll(pinId, userIds, MemberRole.MEMBER, now);
+            } catch (DataIntegrityViolationException e) {
+                // 멤버십 캐시 확인 이후 동시에 추가된 경우 (pin_id, user_id) unique 제약 조건 위반
+                throw new IllegalArgumentException("이미 해당 핀에 속해있습니다.");
+            }
+            memberCacheService.evictMemberships(pinId, userIds);
+
+            for (int i = 0; i < newUsers.size(); i++) {
+                UserRepository.UserSummary user = newUsers.get(i);
+                added.add(MemberInfo.builder()
+                        .id(memberIds.get(i))
+                        .pinId(pinId)
+                        .pinTitle(pin.getTitle())
+                        .userId(user.getId())
+                        .userName(user.getName())
+                        .role(MemberRole.MEMBER)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build());
+            }
+
+            eventPublisher.publishEvent(new MembersAddedEvent(pinId, added));
+        }
+
+        log.info("그룹 멤버 일괄 추가: pinId={}, added={}, alreadyMembers={}, notFound={}",
+                pinId, added.size(), alreadyMembers.size(), notFound.size());
+
+        return BulkAddMemberResponse.builder()
+                .added(added)
+                .alreadyMembers(alreadyMembers)
+                .notFound(notFound)
+                .build();
+    }
+
+    /** 그룹 멤버 제거 */
+    @OptimisticRetry
+    @Transactional
+    public void removeMember(Long requestUserId, Long pinId, Long memberId) {
+        // 요청자 확인
+        if (!pinAuthorizationIndex.isMember(requestUserId, pinId)) {
+            throw new IllegalArgumentException("핀 멤버를 찾을 수 없습니다.");
+        }
+
+        // 핀 확인
+        if (!pinRepository.existsActiveById(pinId)) {
+            throw new IllegalArgumentException("핀을 찾을 수 없습니다.");
+        }
+
         // 요청자가 핀의 소유자인지 확인
-        if (requester.getRole() == MemberRole.MEMBER) {
+        if (!pinAuthorizationIndex.isOwner(requestUserId, pinId)) {
             throw new IllegalArgumentException("핀 소유자만 멤버를 제거할 수 있습니다.");
         }
 
@@ -192,41 +297,48 @@ public class MemberService {
             throw new IllegalArgumentException("그룹 소유자는 제거할 수 없습니다.");
         }
 
-        // 핀의 멤버 수 감소
-        pin.decrementMemberCount();
-        pinRepository.save(pin);
-
+        // 멤버 삭제 후 핀의 멤버 수 감소
         memberCacheService.deleteMember(member);
+        pinCacheService.decrementMemberCount(pinId);
         log.info("그룹 멤버 제거 성공: pinId={}, removedUserId={}", pinId, memberId);
     }
 
     /** 핀 탈퇴 (내가 속한 핀만 탈퇴 가능, 내가 Owner일 경우 핀이 삭제됨) */
     @Transactional
     public void leavePinGroup(Long userId, Long pinId) {
-        // 핀 조회
-        Pin pin = pinRepository.findById(pinId)
-                .orElseThrow(() -> new IllegalArgumentException("핀을 찾을 수 없습니다."));
+        // 핀 확인
+        if (!pinRepository.existsActiveById(pinId)) {
+            throw new IllegalArgumentException("핀을 찾을 수 없습니다.");
+        }
 
         // 사용자가 핀에 속해있는지 확인
-        Member member = memberCacheService.getMemberByPinIdAndUserId(pinId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 사용자는 핀에 속해있지 않습니다."));
+        if (!pinAuthorizationIndex.isMember(userId, pinId)) {
+            throw new IllegalArgumentException("해당 사용자는 핀에 속해있지 않습니다.");
+        }
 
-        // Owner인 경우 핀 삭제
-        if (member.getRole() == MemberRole.OWNER) {
-            // 핀에 속한 모든 멤버 삭제
-            List<Member> members = memberCacheService.getMembersByPinId(pinId);
-            for (Member m : members) {
-                memberCacheService.deleteMember(m);
-            }
-            // 핀 삭제
-            pinRepository.delete(pin);
+        // Owner인 경우 핀 삭제 (멤버/할 일/알림 일괄 삭제)
+        if (pinAuthorizationIndex.isOwner(userId, pinId)) {
+            pinTeardownService.teardown(pinId);
             log.info("핀 탈퇴(삭제) 성공: pinId={}, userId={}", pinId, userId);
         } else {
             // Member인 경우 멤버만 제거
-            pin.decrementMemberCount();
-            pinRepository.save(pin);
+            Member member = memberCacheService.getMemberByPinIdAndUserId(pinId, userId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 사용자는 핀에 속해있지 않습니다."));
             memberCacheService.deleteMember(member);
+            pinCacheService.decrementMemberCount(pinId);
             log.info("핀 탈퇴 성공: pinId={}, userId={}", pinId, userId);
         }
     }
+
+    /**
+     * 멤버 저장
+     * 중복 확인은 캐시를 사용하므로, 동시에 같은 사용자가 추가되면 (pin_id, user_id) unique 제약 조건으로 걸러짐
+     */
+    private Member saveMember(Member member, String duplicateMessage) {
+        try {
+            return memberCacheService.saveMember(member);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException(duplicateMessage);
+        }
+    }
 }
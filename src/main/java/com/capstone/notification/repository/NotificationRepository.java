@@ -2,8 +2,12 @@ package com.capstone.notification.repository;
 
 import com.capstone.notification.entity.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,4 +25,22 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     /** 읽지 않은 알림 개수 조회 */
     Long countByUserIdAndIsRead(Long userId, Boolean isRead);
 
+    /** ID 목록으로 알림 조회 (사용자/할 일/핀 함께 로딩, 동기화용) */
+    @Query("SELECT n FROM Notification n JOIN FETCH n.user LEFT JOIN FETCH n.task LEFT JOIN FETCH n.pin WHERE n.id IN :ids")
+    List<Notification> findAllWithAssociationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 핀 알림 개수 조회 (limit개까지만 세므로 이력 크기와 무관하게 빠름) */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM notifications WHERE pin_id = :pinId LIMIT :limit) n", nativeQuery = true)
+    long countByPinIdUpTo(@Param("pinId") Long pinId, @Param("limit") long limit);
+
+    /** 핀 알림 일괄 삭제 */
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.pin.id = :pinId")
+    int deleteAllByPinIdInBulk(@Param("pinId") Long pinId);
+
+    /** 핀 알림을 limit개씩 삭제 (정리 작업용) */
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE id IN (SELECT id FROM notifications WHERE pin_id = :pinId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByPinId(@Param("pinId") Long pinId, @Param("limit") int limit);
+
 }
@@ -8,7 +8,7 @@ import com.capstone.pin.entity.Pin;
 import com.capstone.pin.repository.PinRepository;
 import com.capstone.task.entity.Task;
 import com.capstone.task.repository.TaskRepository;
-import com.capstone.user.entity.User;
+import com.capstone.user.dto.UserSnapshot;
 import com.capstone.user.service.UserCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,7 +35,7 @@ public class NotificationService {
     @Transactional
     public NotificationInfo createNotification(String username, CreateNotificationRequest request) {
         // 사용자 조회
-        User user = userCacheService.getUserByUsername(username)
+        UserSnapshot user = userCacheService.getUserByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         // Task 조회 (선택)
@@ -48,13 +48,13 @@ public class NotificationService {
         // Pin 조회 (선택)
         Pin pin = null;
         if (request.getPinId() != null) {
-            pin = pinRepository.findById(request.getPinId())
+            pin = pinRepository.findActiveById(request.getPinId())
                     .orElse(null);
         }
 
         // 알림 생성
         Notification notification = Notification.builder()
-                .user(user)
+                .user(userCacheService.getUserReference(user.getId()))
                 .task(task)
                 .pin(pin)
                 .title(request.getTitle())
@@ -72,7 +72,7 @@ public class NotificationService {
     public List<NotificationInfo> getNotifications(String username, Boolean isRead, String type) {
         List<Notification> notifications;
 
-        User user = userCacheService.getUserByUsername(username)
+        UserSnapshot user = userCacheService.getUserByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         Long userId = user.getId();
@@ -103,7 +103,7 @@ public class NotificationService {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("알림을 찾을 수 없습니다."));
 
-        User user = userCacheService.getUserByUsername(username)
+        UserSnapshot user = userCacheService.getUserByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         Long userId = user.getId();
@@ -123,7 +123,7 @@ public class NotificationService {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("알림을 찾을 수 없습니다."));
 
-        User user = userCacheService.getUserByUsername(username)
+        UserSnapshot user = userCacheService.getUserByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         // 권한 확인
@@ -155,7 +155,7 @@ public class NotificationService {
 
     /** 읽지 않은 알림 개수 조회 */
     public Long getUnreadCount(String username) {
-        User user = userCacheService.getUserByUsername(username)
+        UserSnapshot user = userCacheService.getUserByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         return notificationRepository.countByUserIdAndIsRead(user.getId(), false);
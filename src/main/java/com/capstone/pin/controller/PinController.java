@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -54,12 +55,17 @@ public class PinController {
         security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses({
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
     })
     @GetMapping
     public ApiResponse<List<PinInfo>> getPins(
-            HttpServletRequest httpRequest) {
+            HttpServletRequest httpRequest,
+            WebRequest webRequest) {
         Long userId = securityUtil.getUserIdFromRequest(httpRequest);
+        if (webRequest.checkNotModified(pinService.getUserPinsETag(userId))) {
+            return null;
+        }
         List<PinInfo> pins = pinService.getUserPins(userId);
         return ApiResponse.success(pins);
     }
@@ -71,12 +77,18 @@ public class PinController {
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "핀을 찾을 수 없음")
     })
     @GetMapping("/{id}")
     public ApiResponse<PinInfo> getPin(
             @Parameter(description = "핀 ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        String eTag = pinService.getPinETag(id);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         PinInfo pinInfo = pinService.getPin(id);
         return ApiResponse.success(pinInfo);
     }
@@ -1,18 +1,25 @@
 package com.capstone.pin.dto;
 
 import com.capstone.pin.entity.Pin;
+import com.capstone.pin.repository.PinRepository;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class PinInfo {
+public class PinInfo implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     private Long id;
     private String title;
@@ -21,6 +28,15 @@ public class PinInfo {
     private Double longitude;
     private Integer notificationRadius;
     private Integer currentMemberCount;
+    private Integer totalTaskCount;
+    private Integer completedTaskCount;
+
+    /** 미완료이면서 종료 시각이 지난 할 일 수 (시간에 따라 바뀌므로 저장하지 않고 조회 시 계산) */
+    private Integer overdueTaskCount;
+
+    /** 기한 초과 수가 바뀌는 다음 시각 (캐시용, null이면 할 일이 바뀌기 전까지 그대로) */
+    @JsonIgnore
+    private LocalDateTime overdueCountValidUntil;
     
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
     private LocalDateTime createdAt;
@@ -28,6 +44,9 @@ public class PinInfo {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
     private LocalDateTime updatedAt;
 
+    /** 낙관적 락 버전 */
+    private Long version;
+
     public static PinInfo fromEntity(Pin pin) {
         return PinInfo.builder()
                 .id(pin.getId())
@@ -37,9 +56,32 @@ public class PinInfo {
                 .longitude(pin.getLongitude())
                 .notificationRadius(pin.getNotificationRadius())
                 .currentMemberCount(pin.getCurrentMemberCount())
+                .totalTaskCount(pin.getTotalTaskCount())
+                .completedTaskCount(pin.getCompletedTaskCount())
                 .createdAt(pin.getCreatedAt())
                 .updatedAt(pin.getUpdatedAt())
+                .version(pin.getVersion())
+                .build();
+    }
+
+    /** 핀과 기한 초과 할 일 수 */
+    public static PinInfo from(PinRepository.PinWithOverdueCount row) {
+        return fromEntity(row.getPin()).toBuilder()
+                .overdueTaskCount(row.getOverdueCount().intValue())
+                .build();
+    }
+
+    /** 핀과 기한 초과 할 일 수, 다음 마감 시각 (핀 캐시용) */
+    public static PinInfo from(PinRepository.PinWithOverdueState row) {
+        return fromEntity(row.getPin()).toBuilder()
+                .overdueTaskCount(row.getOverdueCount().intValue())
+                .overdueCountValidUntil(row.getNextDeadline())
                 .build();
     }
 
+    /** now 시점에도 기한 초과 수가 맞는지 (다음 마감 시각 이전) */
+    public boolean isOverdueCountCurrent(LocalDateTime now) {
+        return overdueTaskCount != null && (overdueCountValidUntil == null || now.isBefore(overdueCountValidUntil));
+    }
+
 }
@@ -3,6 +3,7 @@ package com.capstone.pin.entity;
 import com.capstone.user.entity.User;
 import lombok.*;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -41,9 +42,24 @@ public class Pin implements Serializable {
     @Column(name = "notification_radius")
     private Integer notificationRadius;
 
-    @Column(name = "current_member_count")
+    /** 멤버 수는 PinRepository의 조건부 UPDATE로만 변경 (엔티티 저장 시 덮어쓰지 않음) */
+    @Column(name = "current_member_count", updatable = false)
     private Integer currentMemberCount;
 
+    /** 할 일 수 (완료/기한 초과 포함), PinRepository의 UPDATE로만 변경 */
+    @ColumnDefault("0")
+    @Column(name = "total_task_count", nullable = false, updatable = false)
+    private Integer totalTaskCount = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "completed_task_count", nullable = false, updatable = false)
+    private Integer completedTaskCount = 0;
+
+    /** 할 일 목록 버전 (핀의 할 일이 추가/수정/삭제될 때마다 tasks 트리거가 증가, ETag용) */
+    @ColumnDefault("0")
+    @Column(name = "task_list_version", nullable = false, updatable = false)
+    private Long taskListVersion = 0L;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -52,6 +68,10 @@ public class Pin implements Serializable {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /** 삭제 표시 시각 (할 일/알림 정리 작업이 끝나면 행이 삭제됨) */
+    @Column(name = "deleted_at", insertable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
     @Version
     @Column(name = "version")
     private Long version;
@@ -85,16 +105,4 @@ public class Pin implements Serializable {
         }
     }
 
-    /** 멤버 수 증가 */
-    public void incrementMemberCount() {
-        this.currentMemberCount++;
-    }
-
-    /** 멤버 수 감소 */
-    public void decrementMemberCount() {
-        if (this.currentMemberCount > 0) {
-            this.currentMemberCount--;
-        }
-    }
-
 }
@@ -2,9 +2,141 @@ package com.capstone.pin.repository;
 
 import com.capstone.pin.entity.Pin;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PinRepository extends JpaRepository<Pin, Long> {
 
+    /**
+     * 최대 인원 미만일 때만 멤버 수 증가
+     * 조건 검사와 증가가 한 문장에서 이루어지므로 동시 참여에도 최대 인원을 넘지 않습니다.
+     * 영속성 컨텍스트의 핀 엔티티가 이전 멤버 수를 돌려주지 않도록 변경 전 flush, 변경 후 clear 합니다.
+     * @return 변경된 행 수 (0이면 핀이 없거나 삭제 표시되었거나 최대 인원 도달)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pin p SET p.currentMemberCount = p.currentMemberCount + 1 " +
+           "WHERE p.id = :pinId AND p.deletedAt IS NULL AND p.currentMemberCount < :maxMembers")
+    int incrementMemberCountIfBelow(@Param("pinId") Long pinId, @Param("maxMembers") int maxMembers);
+
+    /**
+     * 추가 후 인원이 최대 인원 이하일 때만 멤버 수를 count만큼 증가 (일괄 초대용)
+     * @return 변경된 행 수 (0이면 핀이 없거나 삭제 표시되었거나 최대 인원 초과)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pin p SET p.currentMemberCount = p.currentMemberCount + :count " +
+           "WHERE p.id = :pinId AND p.deletedAt IS NULL AND p.currentMemberCount + :count <= :maxMembers")
+    int addMemberCountIfFits(@Param("pinId") Long pinId, @Param("count") int count, @Param("maxMembers") int maxMembers);
+
+    /** 멤버 수 감소 (0 미만으로 내려가지 않음) */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Pin p SET p.currentMemberCount = p.currentMemberCount - 1 " +
+           "WHERE p.id = :pinId AND p.currentMemberCount > 0")
+    int decrementMemberCount(@Param("pinId") Long pinId);
+
+    /** 할 일 수 변경 (동시 변경에도 값이 유실되지 않도록 증감으로 반영, 0 미만으로 내려가지 않음) */
+    @Modifying
+    @Query(value = """
+            UPDATE pins
+            SET total_task_count = GREATEST(total_task_count + :total, 0),
+                completed_task_count = GREATEST(completed_task_count + :completed, 0)
+            WHERE id = :pinId
+            """, nativeQuery = true)
+    int adjustTaskCounts(@Param("pinId") Long pinId,
+                         @Param("total") int total,
+                         @Param("completed") int completed);
+
+    /**
+     * 사용자가 속한 핀 목록과 핀별 기한 초과 할 일 수 (멤버 엔티티 로딩 없이 한 번에 조회)
+     * 기한 초과 수는 부분 인덱스(idx_tasks_pin_open_deadline)를 쓰는 상관 서브쿼리로 셉니다.
+     */
+    @Query("SELECT p AS pin, " +
+           "(SELECT COUNT(t) FROM Task t WHERE t.pin = p AND t.completed = false " +
+           " AND t.endDateTime IS NOT NULL AND t.endDateTime < :now) AS overdueCount " +
+           "FROM Member m JOIN m.pin p WHERE m.user.id = :userId ORDER BY p.id")
+    List<PinWithOverdueCount> findAllByMemberUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자 핀 목록의 버전 요약 (ETag용, 엔티티 로딩 없음)
+     * 멤버 수/할 일 수는 버전을 올리지 않고 변경되므로 함께 포함합니다.
+     * 기한 초과 수는 시간에 따라 바뀌므로 부분 인덱스(idx_tasks_pin_open_deadline)로 핀별로 셉니다.
+     */
+    @Query(value = """
+            SELECT md5(COALESCE(string_agg(concat_ws(':', p.id, p.version, p.current_member_count,
+                       p.total_task_count, p.completed_task_count,
+                       (SELECT COUNT(*) FROM tasks t
+                        WHERE t.pin_id = p.id AND NOT t.completed
+                          AND t.end_date_time IS NOT NULL AND t.end_date_time < :now)), ',' ORDER BY p.id), ''))
+            FROM members m JOIN pins p ON p.id = m.pin_id
+            WHERE m.user_id = :userId
+            """, nativeQuery = true)
+    String findListVersionByMemberUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 핀 할 일 목록의 버전 (ETag용, 핀 행 하나만 읽음)
+     * 할 일 변경은 tasks 트리거가 올리는 task_list_version으로, 응답에 포함되는 핀 제목은 핀 버전으로 확인합니다.
+     */
+    @Query(value = "SELECT concat_ws(':', task_list_version, version) FROM pins WHERE id = :pinId", nativeQuery = true)
+    Optional<String> findTaskListVersionById(@Param("pinId") Long pinId);
+
+    /**
+     * 삭제 표시되지 않은 핀과 기한 초과 할 일 수, 다음 마감 시각 (핀 캐시용, 한 번에 조회)
+     * 다음 마감 시각(미완료 할 일 중 now 이후 가장 이른 종료 시각)까지는 기한 초과 수가 바뀌지 않습니다.
+     */
+    @Query("SELECT p AS pin, " +
+           "(SELECT COUNT(t) FROM Task t WHERE t.pin = p AND t.completed = false " +
+           " AND t.endDateTime IS NOT NULL AND t.endDateTime < :now) AS overdueCount, " +
+           "(SELECT MIN(t.endDateTime) FROM Task t WHERE t.pin = p AND t.completed = false " +
+           " AND t.endDateTime >= :now) AS nextDeadline " +
+           "FROM Pin p WHERE p.id = :pinId AND p.deletedAt IS NULL")
+    Optional<PinWithOverdueState> findActiveWithOverdueStateById(@Param("pinId") Long pinId,
+                                                                  @Param("now") LocalDateTime now);
+
+    /** 삭제 표시되지 않은 핀 조회 */
+    @Query("SELECT p FROM Pin p WHERE p.id = :pinId AND p.deletedAt IS NULL")
+    Optional<Pin> findActiveById(@Param("pinId") Long pinId);
+
+    /**
+     * 핀 행 잠금 (트랜잭션 끝까지 유지)
+     * 같은 핀의 할 일 순서 키 계산과 재정렬을 직렬화합니다.
+     * @return 핀이 없으면 비어 있음
+     */
+    @Query(value = "SELECT id FROM pins WHERE id = :pinId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("pinId") Long pinId);
+
+    /** 삭제 표시되지 않은 핀 존재 여부 */
+    @Query("SELECT COUNT(p) > 0 FROM Pin p WHERE p.id = :pinId AND p.deletedAt IS NULL")
+    boolean existsActiveById(@Param("pinId") Long pinId);
+
+    /** 삭제 표시 (핀 단건 조회에서 제외되며, 정리 작업이 할 일/알림과 함께 삭제) */
+    @Modifying
+    @Query("UPDATE Pin p SET p.deletedAt = :deletedAt WHERE p.id = :pinId")
+    int markDeleted(@Param("pinId") Long pinId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /** 정리 대기 중인 삭제 표시된 핀 ID 조회 (오래된 순) */
+    @Query(value = "SELECT id FROM pins WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT :limit", nativeQuery = true)
+    List<Long> findDeletedPinIds(@Param("limit") int limit);
+
+    /** 핀 행 삭제 (삭제 표시 여부와 관계없이) */
+    @Modifying
+    @Query(value = "DELETE FROM pins WHERE id = :pinId", nativeQuery = true)
+    int purgeById(@Param("pinId") Long pinId);
+
+    /** 핀과 기한 초과 할 일 수 프로젝션 */
+    interface PinWithOverdueCount {
+        Pin getPin();
+        Long getOverdueCount();
+    }
+
+    /** 핀과 기한 초과 할 일 수, 다음 마감 시각 프로젝션 */
+    interface PinWithOverdueState extends PinWithOverdueCount {
+        LocalDateTime getNextDeadline();
+    }
+
 }
@@ -0,0 +1,108 @@
+package com.capstone.pin.service;
+
+import com.capstone.pin.dto.PinInfo;
+import com.capstone.pin.entity.Pin;
+import com.capstone.pin.repository.PinRepository;
+import com.capstone.task.event.TaskChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * PinCacheService
+ * 핀 단건 조회 결과(PinInfo)를 캐싱합니다.
+ * 핀 정보나 멤버 수가 바뀌는 저장/삭제는 이 서비스를 통해 해당 핀의 캐시를 제거합니다.
+ * 기한 초과 할 일 수는 다음 마감 시각과 함께 캐싱하며, 할 일이 바뀌면 커밋 이후 캐시를 제거합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PinCacheService {
+
+    private static final String PIN_CACHE = "pin";
+
+    private final PinRepository pinRepository;
+    private final CacheManager cacheManager;
+
+    /** 핀 ID로 핀 정보 조회 (기한 초과 수와 다음 마감 시각 포함, 쿼리 한 번) */
+    @Cacheable(value = PIN_CACHE, key = "#pinId", sync = true)
+    public Optional<PinInfo> getPinInfo(Long pinId) {
+        return pinRepository.findActiveWithOverdueStateById(pinId, LocalDateTime.now()).map(PinInfo::from);
+    }
+
+    /** 핀 저장 */
+    @Transactional
+    public Pin savePin(Pin pin) {
+        Pin savedPin = pinRepository.save(pin);
+        evictPin(savedPin.getId());
+        return savedPin;
+    }
+
+    /**
+     * 최대 인원 미만일 때만 멤버 수 증가
+     * @return 증가 성공 여부 (핀이 없거나 최대 인원에 도달하면 false)
+     */
+    @Transactional
+    public boolean incrementMemberCount(Long pinId, int maxMembers) {
+        boolean incremented = pinRepository.incrementMemberCountIfBelow(pinId, maxMembers) == 1;
+        if (incremented) {
+            evictPin(pinId);
+        }
+        return incremented;
+    }
+
+    /**
+     * 추가 후 인원이 최대 인원 이하일 때만 멤버 수를 count만큼 증가
+     * @return 증가 성공 여부 (핀이 없거나 최대 인원을 넘으면 false)
+     */
+    @Transactional
+    public boolean incrementMemberCount(Long pinId, int count, int maxMembers) {
+        boolean incremented = pinRepository.addMemberCountIfFits(pinId, count, maxMembers) == 1;
+        if (incremented) {
+            evictPin(pinId);
+        }
+        return incremented;
+    }
+
+    /** 할 일 수 변경 */
+    @Transactional
+    public void adjustTaskCounts(Long pinId, int total, int completed) {
+        if (total == 0 && completed == 0) {
+            return;
+        }
+        pinRepository.adjustTaskCounts(pinId, total, completed);
+        evictPin(pinId);
+    }
+
+    /** 멤버 수 감소 */
+    @Transactional
+    public void decrementMemberCount(Long pinId) {
+        pinRepository.decrementMemberCount(pinId);
+        evictPin(pinId);
+    }
+
+    /** 할 일 변경(마감 시각/완료 여부 포함) 후 기한 초과 수가 바뀌었을 수 있으므로 핀 캐시 제거 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        evictPin(event.pinId());
+    }
+
+    /** 핀 캐시 제거 */
+    public void evictPin(Long pinId) {
+        Cache cache = cacheManager.getCache(PIN_CACHE);
+        if (cache != null) {
+            cache.evict(pinId);
+        }
+    }
+
+}
@@ -1,21 +1,23 @@
 package com.capstone.pin.service;
 
+import com.capstone.common.retry.OptimisticRetry;
+import com.capstone.common.util.ETags;
+import com.capstone.member.cache.PinAuthorizationIndex;
 import com.capstone.member.dto.CreateMemberRequest;
-import com.capstone.member.entity.Member;
-import com.capstone.member.enums.MemberRole;
-import com.capstone.member.service.MemberCacheService;
 import com.capstone.member.service.MemberService;
 import com.capstone.pin.dto.*;
 import com.capstone.pin.entity.Pin;
 import com.capstone.pin.repository.PinRepository;
-import com.capstone.user.entity.User;
+import com.capstone.task.repository.TaskRepository;
 import com.capstone.user.service.UserCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,16 +27,20 @@ import java.util.stream.Collectors;
 public class PinService {
 
     private final PinRepository pinRepository;
+    private final TaskRepository taskRepository;
+    private final PinCacheService pinCacheService;
+    private final PinTeardownService pinTeardownService;
     private final UserCacheService userCacheService;
-    private final MemberCacheService memberCacheService;
+    private final PinAuthorizationIndex pinAuthorizationIndex;
     private final MemberService memberService;
 
     /** 핀 생성 */
     @Transactional
     public PinInfo createPin(Long userId, CreatePinRequest request) {
-        // 사용자 조회
-        User user = userCacheService.getUserById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 사용자 존재 확인
+        if (userCacheService.getUserById(userId).isEmpty()) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
 
         // 핀 생성
         Pin pin = Pin.builder()
@@ -43,7 +49,7 @@ public class PinService {
                 .latitude(request.getLatitude())
                 .longitude(request.getLongitude())
                 .notificationRadius(request.getNotificationRadius())
-                .currentMemberCount(1)
+                .currentMemberCount(0)
                 .build();
 
         Pin savedPin = pinRepository.save(pin);
@@ -56,35 +62,51 @@ public class PinService {
         
         log.info("핀 생성 성공: pinId={}, userId={}", savedPin.getId(), userId);
 
-        return PinInfo.fromEntity(savedPin);
+        // 멤버 수 증가가 영속성 컨텍스트를 비우므로 증가된 멤버 수를 다시 조회 (새 핀에는 할 일이 없음)
+        Pin createdPin = pinRepository.findById(savedPin.getId()).orElse(savedPin);
+        return PinInfo.fromEntity(createdPin).toBuilder().overdueTaskCount(0).build();
     }
 
     /** 핀 조회 (단건) */
     public PinInfo getPin(Long pinId) {
-        Pin pin = pinRepository.findById(pinId)
+        return getCurrentPinInfo(pinId)
                 .orElseThrow(() -> new IllegalArgumentException("핀을 찾을 수 없습니다."));
-        return PinInfo.fromEntity(pin);
     }
 
-    /** 사용자의 핀 목록 조회 */
+    /**
+     * 핀 단건 ETag (캐시된 핀 정보 사용)
+     * 멤버 수/할 일 수는 버전을 올리지 않고 변경되므로 함께 포함합니다.
+     * @return 핀이 없으면 null
+     */
+    public String getPinETag(Long pinId) {
+        return getCurrentPinInfo(pinId)
+                .map(pin -> ETags.of("pin", pin.getId(), pin.getVersion(), pin.getCurrentMemberCount(),
+                        pin.getTotalTaskCount(), pin.getCompletedTaskCount(), pin.getOverdueTaskCount()))
+                .orElse(null);
+    }
+
+    /** 사용자의 핀 목록 ETag (버전 요약 쿼리 한 번) */
+    public String getUserPinsETag(Long userId) {
+        return ETags.of("pins", userId, pinRepository.findListVersionByMemberUserId(userId, LocalDateTime.now()));
+    }
+
+    /** 사용자의 핀 목록 조회 (기한 초과 수 포함, 쿼리 한 번) */
     public List<PinInfo> getUserPins(Long userId) {
-        List<Member> members = memberCacheService.getMembersByUserId(userId);
-        List<Pin> pins = members.stream()
-                .map(Member::getPin)
-                .toList();
-        return pins.stream()
-                .map(PinInfo::fromEntity)
+        return pinRepository.findAllByMemberUserId(userId, LocalDateTime.now()).stream()
+                .map(PinInfo::from)
                 .collect(Collectors.toList());
     }
 
     /** 핀 수정 */
+    @OptimisticRetry
     @Transactional
     public PinInfo updatePin(Long userId, Long pinId, UpdatePinRequest request) {
         // 핀 조회 및 권한 확인
-        Member owner = memberCacheService.getMemberByPinIdAndUserId(pinId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("핀을 찾을 수 없거나 수정 권한이 없습니다."));
+        if (!pinAuthorizationIndex.isMember(userId, pinId)) {
+            throw new IllegalArgumentException("핀을 찾을 수 없거나 수정 권한이 없습니다.");
+        }
 
-        if (owner.getRole() != MemberRole.OWNER) {
+        if (!pinAuthorizationIndex.isOwner(userId, pinId)) {
             throw new IllegalArgumentException("핀 수정 권한이 없습니다.");
         }
 
@@ -100,28 +122,46 @@ public class PinService {
                 request.getNotificationRadius()
         );
 
-        Pin updatedPin = pinRepository.save(pin);
+        Pin updatedPin = pinCacheService.savePin(pin);
         log.info("핀 수정 성공: pinId={}, userId={}", pinId, userId);
 
-        return PinInfo.fromEntity(updatedPin);
+        return withOverdueTaskCount(PinInfo.fromEntity(updatedPin));
     }
 
     /** 핀 삭제 */
     @Transactional
     public void deletePin(Long userId, Long pinId) {
         // 핀 조회 및 권한 확인
-        Member owner = memberCacheService.getMemberByPinIdAndUserId(pinId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("핀을 찾을 수 없거나 삭제 권한이 없습니다."));
+        if (!pinAuthorizationIndex.isMember(userId, pinId)) {
+            throw new IllegalArgumentException("핀을 찾을 수 없거나 삭제 권한이 없습니다.");
+        }
 
-        if (owner.getRole() != MemberRole.OWNER) {
+        if (!pinAuthorizationIndex.isOwner(userId, pinId)) {
             throw new IllegalArgumentException("핀 삭제 권한이 없습니다.");
         }
 
-        Pin pin = pinRepository.findById(pinId)
-                .orElseThrow(() -> new IllegalArgumentException("핀을 찾을 수 없거나 삭제 권한이 없습니다."));
-
-        pinRepository.delete(pin);
+        pinTeardownService.teardown(pinId);
         log.info("핀 삭제 성공: pinId={}, userId={}", pinId, userId);
     }
 
+    /**
+     * 캐시된 핀 정보 (캐시 적중 시 쿼리 없음)
+     * 캐싱 이후 다음 마감 시각이 지나 기한 초과 수가 바뀌었을 수 있으면 캐시를 제거하고 다시 조회합니다.
+     */
+    private Optional<PinInfo> getCurrentPinInfo(Long pinId) {
+        Optional<PinInfo> pin = pinCacheService.getPinInfo(pinId);
+        if (pin.isPresent() && !pin.get().isOverdueCountCurrent(LocalDateTime.now())) {
+            pinCacheService.evictPin(pinId);
+            pin = pinCacheService.getPinInfo(pinId);
+        }
+        return pin;
+    }
+
+    /** 기한 초과 수를 채운 사본 (수정 응답용) */
+    private PinInfo withOverdueTaskCount(PinInfo pin) {
+        long overdue = taskRepository.countOverdueByPinIdIn(List.of(pin.getId()), LocalDateTime.now()).stream()
+                .mapToLong(TaskRepository.PinOverdueCount::getOverdueCount)
+                .sum();
+        return pin.toBuilder().overdueTaskCount((int) overdue).build();
+    }
 }
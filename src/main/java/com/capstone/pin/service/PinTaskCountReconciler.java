@@ -0,0 +1,100 @@
+package com.capstone.pin.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * PinTaskCountReconciler
+ * 핀별 할 일 수(전체/완료)를 tasks 테이블 기준으로 주기적으로 다시 계산합니다.
+ * 값은 TaskService가 변경 시 함께 갱신하며, 이 작업은 어긋난 값만 바로잡습니다.
+ * 핀 ID 순으로 batch 단위 트랜잭션에서 핀 행을 먼저 잠근 뒤 집계하므로,
+ * 집계에는 잠금 전에 커밋된 변경이 모두 포함되고 이후의 변경은 보정된 값에 증감으로 더해집니다.
+ * 값이 바뀐 핀만 UPDATE하고 해당 핀 캐시를 제거합니다.
+ */
+@Slf4j
+@Component
+public class PinTaskCountReconciler {
+
+    private static final String LOCK_SQL =
+            "SELECT id FROM pins WHERE id > ? ORDER BY id LIMIT ? FOR UPDATE";
+
+    /** 잠근 핀만 집계 (할 일이 없는 핀은 0으로) */
+    private static final String RECONCILE_SQL = """
+            UPDATE pins p
+            SET total_task_count = c.total,
+                completed_task_count = c.completed
+            FROM (
+                SELECT b.id,
+                       COUNT(t.id) AS total,
+                       COUNT(t.id) FILTER (WHERE t.completed) AS completed
+                FROM unnest(?::bigint[]) AS b(id)
+                LEFT JOIN tasks t ON t.pin_id = b.id
+                GROUP BY b.id
+            ) c
+            WHERE p.id = c.id
+              AND (p.total_task_count, p.completed_task_count) IS DISTINCT FROM (c.total, c.completed)
+            RETURNING p.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PinCacheService pinCacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PinTaskCountReconciler(JdbcTemplate jdbcTemplate,
+                                  PinCacheService pinCacheService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${pin-task-counts.reconcile-batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pinCacheService = pinCacheService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${pin-task-counts.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+        long lastPinId = 0L;
+        int changed = 0;
+
+        while (true) {
+            Batch batch = reconcileBatch(lastPinId);
+            if (batch == null || batch.lastPinId() == null) {
+                break;
+            }
+            changed += batch.changed();
+            lastPinId = batch.lastPinId();
+        }
+
+        log.info("핀 할 일 수 보정 완료: changed={}, elapsedMs={}", changed, System.currentTimeMillis() - startedAt);
+    }
+
+    private Batch reconcileBatch(long afterPinId) {
+        return transactionTemplate.execute(status -> {
+            List<Long> pinIds = jdbcTemplate.queryForList(LOCK_SQL, Long.class, afterPinId, batchSize);
+            if (pinIds.isEmpty()) {
+                return new Batch(null, 0);
+            }
+            // 잠금 이후 시작하는 문장이므로 잠금 전에 커밋된 변경까지 모두 집계
+            List<Long> changed = jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(RECONCILE_SQL);
+                statement.setArray(1, connection.createArrayOf("bigint", pinIds.toArray()));
+                return statement;
+            }, (rs, rowNum) -> rs.getLong(1));
+            changed.forEach(pinCacheService::evictPin);
+            return new Batch(pinIds.get(pinIds.size() - 1), changed.size());
+        });
+    }
+
+    private record Batch(Long lastPinId, int changed) {
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.capstone.pin.service;
+
+import com.capstone.common.service.ClusterJobLock;
+import com.capstone.member.repository.MemberRepository;
+import com.capstone.member.service.MemberCacheService;
+import com.capstone.notification.repository.NotificationRepository;
+import com.capstone.pin.repository.PinRepository;
+import com.capstone.task.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * PinTeardownService
+ * 핀 삭제(소유자 탈퇴 포함)를 엔티티 단위가 아닌 일괄 DELETE로 처리합니다.
+ * 1. 멤버는 즉시 일괄 삭제하여 권한을 바로 회수합니다.
+ * 2. 할 일/알림이 적은 핀은 알림/할 일/핀을 같은 트랜잭션에서 일괄 삭제합니다.
+ * 3. 할 일/알림이 많은 핀은 삭제 표시(deleted_at)만 하고, 정리 작업이 나누어 삭제합니다.
+ * 따라서 삭제 요청 시간은 핀의 할 일/알림 이력 크기와 무관합니다.
+ * 정리 작업은 같은 행을 두고 경합하지 않도록 advisory lock으로 한 인스턴스에서만 실행합니다.
+ */
+@Slf4j
+@Service
+public class PinTeardownService {
+
+    private final PinRepository pinRepository;
+    private final MemberRepository memberRepository;
+    private final TaskRepository taskRepository;
+    private final NotificationRepository notificationRepository;
+    private final MemberCacheService memberCacheService;
+    private final PinCacheService pinCacheService;
+    private final ClusterJobLock clusterJobLock;
+    private final TransactionTemplate transactionTemplate;
+    private final long inlineThreshold;
+    private final int chunkSize;
+
+    public PinTeardownService(PinRepository pinRepository,
+                              MemberRepository memberRepository,
+                              TaskRepository taskRepository,
+                              NotificationRepository notificationRepository,
+                              MemberCacheService memberCacheService,
+                              PinCacheService pinCacheService,
+                              ClusterJobLock clusterJobLock,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${pin-teardown.inline-threshold:500}") long inlineThreshold,
+                              @Value("${pin-teardown.chunk-size:1000}") int chunkSize) {
+        this.pinRepository = pinRepository;
+        this.memberRepository = memberRepository;
+        this.taskRepository = taskRepository;
+        this.notificationRepository = notificationRepository;
+        this.memberCacheService = memberCacheService;
+        this.pinCacheService = pinCacheService;
+        this.clusterJobLock = clusterJobLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.inlineThreshold = inlineThreshold;
+        this.chunkSize = chunkSize;
+    }
+
+    /** 핀 삭제 (호출자의 트랜잭션에 참여) */
+    @Transactional
+    public void teardown(Long pinId) {
+        // 멤버 삭제 전에 소속 사용자의 멤버십 캐시 제거 (커밋 이후 반영)
+        memberCacheService.evictPin(pinId);
+        pinCacheService.evictPin(pinId);
+
+        int deletedMembers = memberRepository.deleteAllByPinIdInBulk(pinId);
+
+        // 이력 크기는 threshold + 1개까지만 확인
+        long historySize = taskRepository.countByPinIdUpTo(pinId, inlineThreshold + 1)
+                + notificationRepository.countByPinIdUpTo(pinId, inlineThreshold + 1);
+        if (historySize <= inlineThreshold) {
+            int deletedNotifications = notificationRepository.deleteAllByPinIdInBulk(pinId);
+            int deletedTasks = taskRepository.deleteAllByPinIdInBulk(pinId);
+            pinRepository.purgeById(pinId);
+            log.info("핀 삭제 완료: pinId={}, members={}, tasks={}, notifications={}",
+                    pinId, deletedMembers, deletedTasks, deletedNotifications);
+            return;
+        }
+
+        pinRepository.markDeleted(pinId, LocalDateTime.now());
+        log.info("핀 삭제 표시: pinId={}, members={} (할 일/알림은 정리 작업에서 삭제)", pinId, deletedMembers);
+    }
+
+    /** 삭제 표시된 핀의 알림/할 일/핀을 chunk 단위 트랜잭션으로 삭제 (한 인스턴스에서만 실행) */
+    @Scheduled(fixedDelayString = "${pin-teardown.purge-interval-ms:60000}")
+    public void purgeDeletedPins() {
+        clusterJobLock.runExclusively("pin-teardown-purge", this::purgeDeletedPinsOnce);
+    }
+
+    private void purgeDeletedPinsOnce() {
+        List<Long> pinIds = pinRepository.findDeletedPinIds(100);
+        for (Long pinId : pinIds) {
+            try {
+                purge(pinId);
+            } catch (Exception e) {
+                // 다음 주기에 이어서 정리
+                log.error("핀 정리 실패: pinId={}, error={}", pinId, e.getMessage());
+            }
+        }
+    }
+
+    private void purge(Long pinId) {
+        long startedAt = System.currentTimeMillis();
+        long deletedNotifications = deleteInChunks(() -> notificationRepository.deleteChunkByPinId(pinId, chunkSize));
+        long deletedTasks = deleteInChunks(() -> taskRepository.deleteChunkByPinId(pinId, chunkSize));
+        transactionTemplate.executeWithoutResult(status -> pinRepository.purgeById(pinId));
+
+        log.info("핀 정리 완료: pinId={}, tasks={}, notifications={}, elapsedMs={}",
+                pinId, deletedTasks, deletedNotifications, System.currentTimeMillis() - startedAt);
+    }
+
+    private long deleteInChunks(IntSupplier chunkDelete) {
+        long total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> chunkDelete.getAsInt());
+            if (deleted == null || deleted == 0) {
+                return total;
+            }
+            total += deleted;
+        }
+    }
+
+}
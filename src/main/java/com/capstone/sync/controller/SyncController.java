@@ -0,0 +1,49 @@
+package com.capstone.sync.controller;
+
+import com.capstone.common.dto.ApiResponse;
+import com.capstone.common.util.SecurityUtil;
+import com.capstone.sync.dto.SyncResponse;
+import com.capstone.sync.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@Tag(name = "동기화(Sync)", description = "모바일 증분 동기화 API")
+public class SyncController {
+
+    private final SyncService syncService;
+    private final SecurityUtil securityUtil;
+
+    @Operation(
+        summary = "증분 동기화",
+        description = "cursor 이후 내가 속한 핀의 핀/멤버/할 일과 내 알림 중 생성·수정된 항목(현재 상태)과 삭제된 항목을 조회합니다. " +
+                "응답의 nextCursor로 다음 요청을 보내며, hasMore가 true이면 바로 이어서 요청합니다. " +
+                "cursor가 없거나 만료되면 resetRequired가 true이므로 전체 조회 후 nextCursor부터 동기화합니다. " +
+                "fullSyncPinIds의 핀은 새로 가입했거나 멤버십이 바뀐 핀이므로 핀 단위로 다시 조회합니다.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 커서")
+    })
+    @GetMapping
+    public ApiResponse<SyncResponse> sync(
+            @Parameter(description = "이전 응답의 nextCursor (생략 시 전체 동기화 요청)")
+            @RequestParam(required = false) String cursor,
+            HttpServletRequest httpServletRequest) {
+        Long userId = securityUtil.getUserIdFromRequest(httpServletRequest);
+        SyncResponse response = syncService.sync(userId, cursor);
+        return ApiResponse.success(response);
+    }
+
+}
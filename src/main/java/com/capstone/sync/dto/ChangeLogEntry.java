@@ -0,0 +1,17 @@
+package com.capstone.sync.dto;
+
+import com.capstone.sync.enums.SyncEntityType;
+import com.capstone.sync.enums.SyncOperation;
+
+/**
+ * change_log 한 행
+ * pinId는 핀 범위 변경(핀/멤버/할 일), userId는 사용자 범위 변경(본인 멤버십/알림)에 기록됩니다.
+ */
+public record ChangeLogEntry(long id,
+                             long txid,
+                             SyncEntityType entityType,
+                             long entityId,
+                             Long pinId,
+                             Long userId,
+                             SyncOperation operation) {
+}
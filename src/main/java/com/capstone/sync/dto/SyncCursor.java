@@ -0,0 +1,47 @@
+package com.capstone.sync.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 동기화 커서
+ * 마지막으로 전달한 변경 기록의 (txid, id)와 발급 시각을 담으며, 클라이언트에는 불투명한 문자열로 전달합니다.
+ * 발급 시각이 보관 기간보다 오래된 커서는 그 사이 기록이 정리되었을 수 있으므로 전체 동기화가 필요합니다.
+ * 다음 페이지 커서는 이전 커서의 발급 시각을 그대로 이어받으므로, 오래된 기록을 여러 페이지에 걸쳐 읽는 동안
+ * 아직 읽지 않은 기록이 정리되면 다음 요청에서 전체 동기화를 요청받습니다.
+ */
+public record SyncCursor(long txid, long id, Instant issuedAt) {
+
+    private static final String SEPARATOR = "|";
+
+    /** txid가 horizon 이상인 기록부터 읽는 커서 */
+    public static SyncCursor head(long horizon) {
+        return new SyncCursor(horizon - 1, Long.MAX_VALUE, Instant.now());
+    }
+
+    /** entry 다음 기록부터 읽는 커서 (발급 시각은 이전 커서의 값을 유지) */
+    public static SyncCursor after(ChangeLogEntry entry, Instant issuedAt) {
+        return new SyncCursor(entry.txid(), entry.id(), issuedAt);
+    }
+
+    public String encode() {
+        String raw = txid + SEPARATOR + id + SEPARATOR + issuedAt.toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new SyncCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                    Instant.ofEpochMilli(Long.parseLong(parts[2])));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+}
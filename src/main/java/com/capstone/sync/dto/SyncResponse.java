@@ -0,0 +1,36 @@
+package com.capstone.sync.dto;
+
+import com.capstone.member.dto.MemberInfo;
+import com.capstone.notification.dto.NotificationInfo;
+import com.capstone.pin.dto.PinInfo;
+import com.capstone.task.dto.TaskInfo;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SyncResponse {
+
+    /** 커서 이후 생성/수정된 엔티티 (현재 상태) */
+    private List<PinInfo> pins;
+    private List<MemberInfo> members;
+    private List<TaskInfo> tasks;
+    private List<NotificationInfo> notifications;
+
+    /** 커서 이후 삭제되었거나 더 이상 볼 수 없게 된 엔티티 */
+    private List<SyncTombstone> deleted;
+
+    /** 새로 가입한 핀 (가입 이전 데이터는 변경 기록으로 전달되지 않으므로 핀 단위로 다시 조회) */
+    private List<Long> fullSyncPinIds;
+
+    /** 다음 요청에 사용할 커서 (항상 존재) */
+    private String nextCursor;
+
+    /** 아직 전달하지 않은 변경이 남아 있으면 true (nextCursor로 바로 이어서 요청) */
+    private boolean hasMore;
+
+    /** 커서가 없거나 만료되어 전체 동기화가 필요하면 true (전체 조회 후 nextCursor부터 동기화) */
+    private boolean resetRequired;
+}
@@ -0,0 +1,10 @@
+package com.capstone.sync.dto;
+
+import com.capstone.sync.enums.SyncEntityType;
+
+/**
+ * 삭제된(또는 더 이상 볼 수 없는) 엔티티
+ * pinId는 삭제 당시 속해 있던 핀입니다. (알림은 null)
+ */
+public record SyncTombstone(SyncEntityType type, Long id, Long pinId) {
+}
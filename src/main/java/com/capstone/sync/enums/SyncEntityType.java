@@ -0,0 +1,18 @@
+package com.capstone.sync.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum SyncEntityType {
+
+    PIN("핀"),
+    MEMBER("멤버"),
+    TASK("할 일"),
+    NOTIFICATION("알림");
+
+    private final String description;
+
+    SyncEntityType(String description) {
+        this.description = description;
+    }
+}
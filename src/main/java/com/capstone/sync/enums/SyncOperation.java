@@ -0,0 +1,16 @@
+package com.capstone.sync.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum SyncOperation {
+
+    UPSERT("생성/수정"),
+    DELETE("삭제");
+
+    private final String description;
+
+    SyncOperation(String description) {
+        this.description = description;
+    }
+}
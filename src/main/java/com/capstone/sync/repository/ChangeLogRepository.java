@@ -0,0 +1,77 @@
+package com.capstone.sync.repository;
+
+import com.capstone.sync.dto.ChangeLogEntry;
+import com.capstone.sync.enums.SyncEntityType;
+import com.capstone.sync.enums.SyncOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ChangeLogRepository
+ * 트리거가 기록한 change_log를 (txid, id) 순서로 읽습니다.
+ * 진행 중인 트랜잭션이 나중에 커밋되어 이미 전달한 위치 앞에 끼어드는 일이 없도록,
+ * 가장 오래된 진행 중 트랜잭션(snapshot xmin) 이전의 기록만 읽습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeLogRepository {
+
+    private static final String FIND_SQL = """
+            SELECT id, txid, entity_type, entity_id, pin_id, user_id, operation
+            FROM change_log
+            WHERE (pin_id = ANY(?::bigint[]) OR user_id = ?)
+              AND (txid, id) > (?, ?)
+              AND txid < ?
+            ORDER BY txid, id
+            LIMIT ?
+            """;
+
+    private static final RowMapper<ChangeLogEntry> ROW_MAPPER = (rs, rowNum) -> new ChangeLogEntry(
+            rs.getLong("id"),
+            rs.getLong("txid"),
+            SyncEntityType.valueOf(rs.getString("entity_type")),
+            rs.getLong("entity_id"),
+            rs.getObject("pin_id", Long.class),
+            rs.getObject("user_id", Long.class),
+            SyncOperation.valueOf(rs.getString("operation")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 이 txid 미만의 트랜잭션은 모두 끝났음 (커밋 또는 롤백) */
+    public long currentHorizon() {
+        Long horizon = jdbcTemplate.queryForObject(
+                "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint", Long.class);
+        return horizon != null ? horizon : 0L;
+    }
+
+    /** 핀 범위 또는 사용자 범위 변경을 (afterTxid, afterId) 다음부터 horizon 이전까지 limit개 조회 */
+    public List<ChangeLogEntry> findAfter(Collection<Long> pinIds, Long userId,
+                                          long afterTxid, long afterId, long horizon, int limit) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", pinIds.toArray()));
+            statement.setLong(2, userId);
+            statement.setLong(3, afterTxid);
+            statement.setLong(4, afterId);
+            statement.setLong(5, horizon);
+            statement.setInt(6, limit);
+            return statement;
+        }, ROW_MAPPER);
+    }
+
+    /** 보관 기간이 지난 기록을 limit개씩 삭제 (정리 작업용) */
+    public int deleteChunkBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM change_log WHERE id IN (SELECT id FROM change_log WHERE changed_at < ? LIMIT ?)",
+                Timestamp.valueOf(before), limit);
+    }
+
+}
@@ -0,0 +1,231 @@
+package com.capstone.sync.service;
+
+import com.capstone.member.dto.MemberInfo;
+import com.capstone.member.entity.Member;
+import com.capstone.member.repository.MemberRepository;
+import com.capstone.member.service.MemberCacheService;
+import com.capstone.notification.dto.NotificationInfo;
+import com.capstone.notification.entity.Notification;
+import com.capstone.notification.repository.NotificationRepository;
+import com.capstone.pin.dto.PinInfo;
+import com.capstone.pin.entity.Pin;
+import com.capstone.pin.repository.PinRepository;
+import com.capstone.sync.dto.ChangeLogEntry;
+import com.capstone.sync.dto.SyncCursor;
+import com.capstone.sync.dto.SyncResponse;
+import com.capstone.sync.dto.SyncTombstone;
+import com.capstone.sync.enums.SyncEntityType;
+import com.capstone.sync.enums.SyncOperation;
+import com.capstone.sync.repository.ChangeLogRepository;
+import com.capstone.task.dto.TaskInfo;
+import com.capstone.task.entity.Task;
+import com.capstone.task.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * SyncService
+ * 모바일 클라이언트의 증분 동기화를 처리합니다.
+ * 1. 트리거가 같은 트랜잭션에서 기록한 change_log를 커서 이후부터 읽습니다.
+ * 2. 같은 엔티티의 여러 변경은 마지막 변경 하나로 합치고, 생성/수정된 엔티티는 현재 상태를 종류별 한 번의 쿼리로 조회합니다.
+ * 3. 이미 삭제되었거나 사용자가 더 이상 볼 수 없는 엔티티는 삭제(tombstone)로 전달합니다.
+ * 커서가 없거나 보관 기간보다 오래되면 resetRequired로 전체 동기화를 요청합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private final ChangeLogRepository changeLogRepository;
+    private final MemberCacheService memberCacheService;
+    private final PinRepository pinRepository;
+    private final MemberRepository memberRepository;
+    private final TaskRepository taskRepository;
+    private final NotificationRepository notificationRepository;
+    private final int pageSize;
+    private final Duration retention;
+    private final int purgeChunkSize;
+
+    public SyncService(ChangeLogRepository changeLogRepository,
+                       MemberCacheService memberCacheService,
+                       PinRepository pinRepository,
+                       MemberRepository memberRepository,
+                       TaskRepository taskRepository,
+                       NotificationRepository notificationRepository,
+                       @Value("${sync.page-size:500}") int pageSize,
+                       @Value("${sync.retention-days:30}") long retentionDays,
+                       @Value("${sync.purge-chunk-size:5000}") int purgeChunkSize) {
+        this.changeLogRepository = changeLogRepository;
+        this.memberCacheService = memberCacheService;
+        this.pinRepository = pinRepository;
+        this.memberRepository = memberRepository;
+        this.taskRepository = taskRepository;
+        this.notificationRepository = notificationRepository;
+        this.pageSize = pageSize;
+        this.retention = Duration.ofDays(retentionDays);
+        this.purgeChunkSize = purgeChunkSize;
+    }
+
+    /** 커서 이후 변경 조회 */
+    public SyncResponse sync(Long userId, String cursorValue) {
+        long horizon = changeLogRepository.currentHorizon();
+        SyncCursor cursor = cursorValue != null && !cursorValue.isBlank() ? SyncCursor.decode(cursorValue) : null;
+
+        // 커서 이후 기록이 정리되었을 수 있으면 전체 동기화
+        if (cursor == null || cursor.issuedAt().isBefore(Instant.now().minus(retention))) {
+            return emptyResponse(SyncCursor.head(horizon), true);
+        }
+
+        List<Long> pinIds = memberCacheService.getPinIdsByUserId(userId);
+        List<ChangeLogEntry> entries = changeLogRepository.findAfter(
+                pinIds, userId, cursor.txid(), cursor.id(), horizon, pageSize + 1);
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+
+        // 남은 변경이 없으면 horizon까지 모두 읽은 것이므로 head로 이동
+        // (남은 변경이 있으면 보관 기간 확인 기준인 발급 시각을 이어받음)
+        SyncCursor nextCursor = hasMore
+                ? SyncCursor.after(entries.get(entries.size() - 1), cursor.issuedAt())
+                : SyncCursor.head(Math.max(horizon, cursor.txid() + 1));
+        if (entries.isEmpty()) {
+            return emptyResponse(nextCursor, false);
+        }
+
+        // 엔티티별 마지막 변경만 남김
+        Map<SyncEntityType, Map<Long, ChangeLogEntry>> latest = new EnumMap<>(SyncEntityType.class);
+        for (ChangeLogEntry entry : entries) {
+            latest.computeIfAbsent(entry.entityType(), type -> new LinkedHashMap<>()).put(entry.entityId(), entry);
+        }
+
+        Set<Long> visiblePinIds = new HashSet<>(pinIds);
+        List<SyncTombstone> deleted = new ArrayList<>();
+
+        List<PinInfo> pins = resolve(SyncEntityType.PIN, latest, deleted,
+                pinRepository::findAllById, Pin::getId,
+                pin -> pin.getDeletedAt() == null && visiblePinIds.contains(pin.getId()),
+                PinInfo::fromEntity);
+        List<MemberInfo> members = resolve(SyncEntityType.MEMBER, latest, deleted,
+                memberRepository::findAllWithPinAndUserByIdIn, Member::getId,
+                member -> visiblePinIds.contains(member.getPin().getId()) || userId.equals(member.getUser().getId()),
+                MemberInfo::from);
+        List<TaskInfo> tasks = resolve(SyncEntityType.TASK, latest, deleted,
+                taskRepository::findAllWithPinByIdIn, Task::getId,
+                task -> task.getPin() != null && visiblePinIds.contains(task.getPin().getId()),
+                TaskInfo::fromEntity);
+        List<NotificationInfo> notifications = resolve(SyncEntityType.NOTIFICATION, latest, deleted,
+                notificationRepository::findAllWithAssociationsByIdIn, Notification::getId,
+                notification -> userId.equals(notification.getUser().getId()),
+                NotificationInfo::fromEntity);
+
+        // 본인 멤버십이 생성/변경된 핀은 가입 이전 데이터를 받지 못했으므로 핀 단위로 다시 조회
+        List<Long> fullSyncPinIds = members.stream()
+                .filter(member -> userId.equals(member.getUserId()))
+                .map(MemberInfo::getPinId)
+                .distinct()
+                .toList();
+
+        log.debug("동기화: userId={}, entries={}, hasMore={}", userId, entries.size(), hasMore);
+
+        return SyncResponse.builder()
+                .pins(pins)
+                .members(members)
+                .tasks(tasks)
+                .notifications(notifications)
+                .deleted(deleted)
+                .fullSyncPinIds(fullSyncPinIds)
+                .nextCursor(nextCursor.encode())
+                .hasMore(hasMore)
+                .resetRequired(false)
+                .build();
+    }
+
+    /** 보관 기간이 지난 변경 기록을 chunk 단위로 삭제 */
+    @Scheduled(fixedDelayString = "${sync.purge-interval-ms:3600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void purgeExpiredChanges() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        long total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = changeLogRepository.deleteChunkBefore(before, purgeChunkSize);
+                total += deleted;
+            } while (deleted > 0);
+        } catch (Exception e) {
+            // 다음 주기에 이어서 정리
+            log.error("변경 기록 정리 실패: error={}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("변경 기록 정리 완료: deleted={}, before={}", total, before);
+        }
+    }
+
+    /**
+     * 한 종류의 마지막 변경을 응답으로 변환
+     * DELETE 기록과, UPSERT 기록이지만 현재 없거나 볼 수 없는 엔티티는 tombstone으로 추가합니다.
+     */
+    private <E, T> List<T> resolve(SyncEntityType type,
+                                   Map<SyncEntityType, Map<Long, ChangeLogEntry>> latest,
+                                   List<SyncTombstone> deleted,
+                                   Function<Collection<Long>, List<E>> loader,
+                                   Function<E, Long> idOf,
+                                   Predicate<E> visible,
+                                   Function<E, T> mapper) {
+        Map<Long, ChangeLogEntry> changes = latest.getOrDefault(type, Map.of());
+        List<Long> upsertIds = new ArrayList<>();
+        for (ChangeLogEntry entry : changes.values()) {
+            if (entry.operation() == SyncOperation.DELETE) {
+                deleted.add(new SyncTombstone(type, entry.entityId(), entry.pinId()));
+            } else {
+                upsertIds.add(entry.entityId());
+            }
+        }
+        if (upsertIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, E> current = new HashMap<>();
+        for (E entity : loader.apply(upsertIds)) {
+            current.put(idOf.apply(entity), entity);
+        }
+
+        List<T> result = new ArrayList<>();
+        for (Long id : upsertIds) {
+            E entity = current.get(id);
+            if (entity != null && visible.test(entity)) {
+                result.add(mapper.apply(entity));
+            } else {
+                deleted.add(new SyncTombstone(type, id, changes.get(id).pinId()));
+            }
+        }
+        return result;
+    }
+
+    private SyncResponse emptyResponse(SyncCursor nextCursor, boolean resetRequired) {
+        return SyncResponse.builder()
+                .pins(List.of())
+                .members(List.of())
+                .tasks(List.of())
+                .notifications(List.of())
+                .deleted(List.of())
+                .fullSyncPinIds(List.of())
+                .nextCursor(nextCursor.encode())
+                .hasMore(false)
+                .resetRequired(resetRequired)
+                .build();
+    }
+
+}
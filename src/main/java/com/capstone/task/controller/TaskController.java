@@ -3,6 +3,7 @@ package com.capstone.task.controller;
 import com.capstone.common.dto.ApiResponse;
 import com.capstone.common.util.SecurityUtil;
 import com.capstone.task.dto.*;
+import com.capstone.task.enums.TaskSort;
 import com.capstone.task.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,9 +14,12 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -48,21 +52,87 @@ public class TaskController {
         return ApiResponse.success(taskInfo, "할 일이 생성되었습니다.");
     }
 
+    @Operation(
+        summary = "할 일 일괄 처리",
+        description = "여러 할 일을 한 번에 완료(COMPLETE), 완료 취소(REOPEN), 삭제(DELETE), 다른 핀으로 이동(MOVE)합니다. " +
+                "삭제/이동은 핀 소유자만 가능하며, 항목별로 버전을 전달하면 다른 요청에 의해 변경된 항목은 CONFLICT로 응답합니다.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과 포함)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @PostMapping("/bulk")
+    public ApiResponse<BulkTaskResponse> bulkUpdateTasks(
+            @Parameter(description = "할 일 일괄 처리 요청 정보", required = true)
+            @Valid @RequestBody BulkTaskRequest request,
+            HttpServletRequest httpServletRequest) {
+        Long userId = securityUtil.getUserIdFromRequest(httpServletRequest);
+        BulkTaskResponse response = taskService.bulkUpdateTasks(userId, request);
+        return ApiResponse.success(response, "할 일 일괄 처리가 완료되었습니다.");
+    }
+
+    @Operation(
+        summary = "캘린더 조회",
+        description = "내가 속한 모든 핀에서 기간 [from, to)와 겹치는 할 일을 시작 시각 순으로 조회합니다. " +
+                "종료 시각이 없는 할 일은 시작 시각 한 시점으로 보며, 최대 6주까지 조회할 수 있습니다.",
+        security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 기간")
+    })
+    @GetMapping("/calendar")
+    public ApiResponse<List<TaskInfo>> getCalendar(
+            @Parameter(description = "조회 시작 시각 (포함)", required = true, example = "2025-01-06T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "조회 종료 시각 (미포함)", required = true, example = "2025-01-13T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletRequest httpServletRequest,
+            WebRequest webRequest) {
+        Long userId = securityUtil.getUserIdFromRequest(httpServletRequest);
+        List<TaskInfo> tasks = taskService.getCalendar(userId, from, to);
+        if (webRequest.checkNotModified(taskService.getCalendarETag(tasks))) {
+            return null;
+        }
+        return ApiResponse.success(tasks);
+    }
+
     @Operation(
         summary = "할 일 목록 조회",
-        description = "pinId에 해당하는 할 일 목록을 조회합니다.",
+        description = "pinId에 해당하는 할 일 목록을 조회합니다. 기본(SCHEDULE)은 미완료 → 완료, 시작 시각, ID 순이며 " +
+                "RANK는 사용자가 지정한 순서입니다. 완료 여부와 시작 시각 범위로 필터링할 수 있습니다. " +
+                "다음 페이지는 응답의 nextCursor로 조회합니다.",
         security = @SecurityRequirement(name = "Bearer Authentication")
     )
     @ApiResponses({
-        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
     })
     @GetMapping("/{pinId}")
-    public ApiResponse<List<TaskInfo>> getTasks(
+    public ApiResponse<TaskPage> getTasks(
             @Parameter(description = "핀 ID", example = "1")
             @PathVariable Long pinId,
-            HttpServletRequest httpServletRequest) {
+            @Parameter(description = "정렬 기준 (SCHEDULE, RANK, 생략 시 SCHEDULE)", example = "RANK")
+            @RequestParam(required = false) TaskSort sort,
+            @Parameter(description = "완료 여부 (생략 시 전체)", example = "false")
+            @RequestParam(required = false) Boolean completed,
+            @Parameter(description = "시작 시각 하한 (포함)", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "시작 시각 상한 (미포함)", example = "2025-02-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "이전 응답의 nextCursor (생략 시 첫 페이지)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest httpServletRequest,
+            WebRequest webRequest) {
         Long userId = securityUtil.getUserIdFromRequest(httpServletRequest);
-        List<TaskInfo> tasks = taskService.getTasks(userId, pinId);
+        if (webRequest.checkNotModified(taskService.getTasksETag(userId, pinId))) {
+            return null;
+        }
+        TaskPage tasks = taskService.getTasks(userId, pinId, sort, completed, from, to, cursor, size);
         return ApiResponse.success(tasks);
     }
 
@@ -85,6 +155,28 @@ public class TaskController {
         return ApiResponse.success(taskInfo, "할 일이 수정되었습니다.");
     }
 
+    /** 할 일 순서 변경 */
+    @Operation(
+            summary = "할 일 순서 변경",
+            description = "taskId에 해당하는 할 일을 같은 핀의 두 할 일 사이로 옮깁니다. " +
+                    "맨 앞으로 옮기면 previousTaskId, 맨 뒤로 옮기면 nextTaskId를 생략합니다. 옮기는 할 일만 변경됩니다.",
+            security = @SecurityRequirement(name = "Bearer Authentication")
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "변경 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 위치")
+    })
+    @PatchMapping("/{taskId}/move")
+    public ApiResponse<TaskInfo> moveTask(
+            @PathVariable Long taskId,
+            @Parameter(description = "이동 위치", required = true)
+            @RequestBody MoveTaskRequest request,
+            HttpServletRequest httpServletRequest) {
+        Long userId = securityUtil.getUserIdFromRequest(httpServletRequest);
+        TaskInfo taskInfo = taskService.moveTask(userId, taskId, request);
+        return ApiResponse.success(taskInfo, "할 일 순서가 변경되었습니다.");
+    }
+
     /** 할 일 삭제 */
     @Operation(
             summary = "할 일 삭제",
@@ -0,0 +1,39 @@
+package com.capstone.task.dto;
+
+import com.capstone.task.enums.BulkTaskAction;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskRequest {
+
+    @NotNull(message = "작업 종류는 필수입니다.")
+    private BulkTaskAction action;
+
+    @NotEmpty(message = "대상 할 일 목록은 필수입니다.")
+    @Size(max = 100, message = "한 번에 최대 100개의 할 일을 처리할 수 있습니다.")
+    private List<@Valid Item> items;
+
+    /** 이동할 핀 ID (MOVE에서만 사용) */
+    private Long targetPinId;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull(message = "할 일 ID는 필수입니다.")
+        private Long taskId;
+
+        /** 클라이언트가 알고 있는 버전 (생략 시 현재 버전 기준으로 처리) */
+        private Long version;
+    }
+}
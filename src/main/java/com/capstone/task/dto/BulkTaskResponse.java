@@ -0,0 +1,34 @@
+package com.capstone.task.dto;
+
+import com.capstone.task.enums.BulkTaskResultStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResponse {
+
+    private int succeeded;
+    private int failed;
+
+    /** 요청 순서와 같은 항목별 결과 */
+    private List<ItemResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+
+        private Long taskId;
+        private BulkTaskResultStatus status;
+
+        /** 변경 후 버전 (성공한 COMPLETE/REOPEN/MOVE) */
+        private Long version;
+    }
+}
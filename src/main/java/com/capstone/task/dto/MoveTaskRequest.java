@@ -0,0 +1,21 @@
+package com.capstone.task.dto;
+
+import lombok.*;
+
+/**
+ * 할 일 순서 변경 요청
+ * 이동 후 바로 앞/뒤에 올 할 일을 지정합니다. (맨 앞이면 previousTaskId, 맨 뒤면 nextTaskId를 생략)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoveTaskRequest {
+
+    /** 이동 후 바로 앞에 올 할 일 ID */
+    private Long previousTaskId;
+
+    /** 이동 후 바로 뒤에 올 할 일 ID */
+    private Long nextTaskId;
+
+}
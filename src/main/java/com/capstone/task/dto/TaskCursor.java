@@ -0,0 +1,43 @@
+package com.capstone.task.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 할 일 목록 keyset 페이지네이션 커서
+ * 정렬 기준의 마지막 값을 담으며, 클라이언트에는 불투명한 문자열로 전달합니다.
+ * - SCHEDULE: (completed, startDateTime, id)
+ * - RANK: (rank, id)
+ */
+public record TaskCursor(boolean completed, LocalDateTime startDateTime, String rank, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TaskCursor of(TaskInfo task) {
+        return new TaskCursor(Boolean.TRUE.equals(task.getCompleted()), task.getStartDateTime(), task.getRank(), task.getId());
+    }
+
+    public String encode() {
+        String raw = completed + SEPARATOR + (startDateTime != null ? startDateTime : "") + SEPARATOR + id
+                + SEPARATOR + (rank != null ? rank : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            // 순서 키가 없는 이전 형식(3개)도 허용
+            if (parts.length != 3 && parts.length != 4) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            LocalDateTime startDateTime = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            String rank = parts.length == 4 && !parts[3].isEmpty() ? parts[3] : null;
+            return new TaskCursor(Boolean.parseBoolean(parts[0]), startDateTime, rank, Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+}
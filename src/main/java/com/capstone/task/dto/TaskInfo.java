@@ -4,8 +4,9 @@ import com.capstone.task.entity.Task;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
-import org.springframework.cglib.core.Local;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Data
@@ -13,7 +14,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class TaskInfo {
+public class TaskInfo implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     private Long id;
     private String title;
@@ -26,6 +30,9 @@ public class TaskInfo {
     private String username;
     private Long pinId;
     private String pinTitle;
+
+    /** 핀 안에서의 순서 키 (사전순 정렬) */
+    private String rank;
     
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
     private LocalDateTime startDateTime;
@@ -39,6 +46,9 @@ public class TaskInfo {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
     private LocalDateTime updatedAt;
 
+    /** 낙관적 락 버전 (일괄 처리 요청 시 전달) */
+    private Long version;
+
     public static TaskInfo fromEntity(Task task) {
         return TaskInfo.builder()
                 .id(task.getId())
@@ -47,10 +57,12 @@ public class TaskInfo {
                 .completedAt(task.getCompletedAt())
                 .pinId(task.getPin() != null ? task.getPin().getId() : null)
                 .pinTitle(task.getPin() != null ? task.getPin().getTitle() : null)
+                .rank(task.getRank())
                 .startDateTime(task.getStartDateTime())
                 .endDateTime(task.getEndDateTime())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
+                .version(task.getVersion())
                 .build();
     }
 
@@ -0,0 +1,20 @@
+package com.capstone.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskPage {
+
+    private List<TaskInfo> tasks;
+
+    /** 다음 페이지 커서 (마지막 페이지면 null) */
+    private String nextCursor;
+
+    private boolean hasNext;
+}
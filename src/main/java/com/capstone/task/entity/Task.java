@@ -46,6 +46,10 @@ public class Task implements Serializable {
     @Column(name = "end_date_time")
     private LocalDateTime endDateTime;
 
+    /** 핀 안에서의 순서 키 (사전순 정렬, 핀이 없으면 null) */
+    @Column(name = "rank", length = 64)
+    private String rank;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -59,9 +63,10 @@ public class Task implements Serializable {
     private Long version;
 
     @Builder
-    public Task(String title, Pin pin, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+    public Task(String title, Pin pin, String rank, LocalDateTime startDateTime, LocalDateTime endDateTime) {
         this.title = title;
         this.pin = pin;
+        this.rank = rank;
         this.completed = false;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
@@ -87,6 +92,11 @@ public class Task implements Serializable {
 
     }
 
+    /** 순서 변경 */
+    public void changeRank(String rank) {
+        this.rank = rank;
+    }
+
     /** 할 일 완료 처리 */
     public void markAsCompleted() {
         this.completed = true;
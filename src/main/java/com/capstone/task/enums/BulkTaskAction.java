@@ -0,0 +1,23 @@
+package com.capstone.task.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum BulkTaskAction {
+
+    COMPLETE("완료 처리"),
+    REOPEN("완료 취소"),
+    DELETE("삭제"),
+    MOVE("다른 핀으로 이동");
+
+    private final String description;
+
+    BulkTaskAction(String description) {
+        this.description = description;
+    }
+
+    /** 핀 소유자만 할 수 있는 작업인지 (단건 API의 수정/삭제 권한과 동일) */
+    public boolean requiresOwner() {
+        return this == DELETE || this == MOVE;
+    }
+}
@@ -0,0 +1,18 @@
+package com.capstone.task.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum BulkTaskResultStatus {
+
+    SUCCESS("성공"),
+    NOT_FOUND("할 일을 찾을 수 없음"),
+    FORBIDDEN("권한 없음"),
+    CONFLICT("다른 요청에 의해 변경됨");
+
+    private final String description;
+
+    BulkTaskResultStatus(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,17 @@
+package com.capstone.task.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum TaskChangeOperation {
+
+    CREATE("생성 (핀으로 이동 포함)"),
+    UPDATE("수정"),
+    DELETE("삭제 (다른 핀으로 이동 포함)");
+
+    private final String description;
+
+    TaskChangeOperation(String description) {
+        this.description = description;
+    }
+}
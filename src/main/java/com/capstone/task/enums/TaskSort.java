@@ -0,0 +1,16 @@
+package com.capstone.task.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum TaskSort {
+
+    SCHEDULE("미완료 → 완료, 시작 시각 순"),
+    RANK("사용자가 지정한 순서");
+
+    private final String description;
+
+    TaskSort(String description) {
+        this.description = description;
+    }
+}
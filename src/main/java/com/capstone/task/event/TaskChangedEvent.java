@@ -0,0 +1,7 @@
+package com.capstone.task.event;
+
+import java.util.List;
+
+/** 핀의 할 일이 변경됨 (커밋 이후 핀 멤버에게 한 번에 알림, actorUserId는 변경한 사용자) */
+public record TaskChangedEvent(Long pinId, Long actorUserId, List<TaskDelta> changes) {
+}
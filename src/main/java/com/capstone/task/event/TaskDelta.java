@@ -0,0 +1,78 @@
+package com.capstone.task.event;
+
+import com.capstone.task.dto.TaskInfo;
+import com.capstone.task.enums.TaskChangeOperation;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 할 일 하나의 변경 내용
+ * fields에는 생성 시 전체 필드, 수정 시 바뀐 필드만 담습니다. (삭제는 없음)
+ * 클라이언트는 가진 버전보다 version이 클 때만 적용합니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskDelta(TaskChangeOperation op, Long id, Long version, Map<String, Object> fields) {
+
+    /** TaskInfo의 @JsonFormat과 같은 형식 */
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    public static TaskDelta created(TaskInfo task) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("title", task.getTitle());
+        fields.put("rank", task.getRank());
+        fields.put("completed", task.getCompleted());
+        fields.put("completedAt", format(task.getCompletedAt()));
+        fields.put("startDateTime", format(task.getStartDateTime()));
+        fields.put("endDateTime", format(task.getEndDateTime()));
+        return new TaskDelta(TaskChangeOperation.CREATE, task.getId(), task.getVersion(), fields);
+    }
+
+    /** 변경 전/후를 비교하여 바뀐 필드만 담음 */
+    public static TaskDelta updated(TaskInfo before, TaskInfo after) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        putIfChanged(fields, "title", before.getTitle(), after.getTitle());
+        putIfChanged(fields, "rank", before.getRank(), after.getRank());
+        putIfChanged(fields, "completed", before.getCompleted(), after.getCompleted());
+        putIfChanged(fields, "completedAt", format(before.getCompletedAt()), format(after.getCompletedAt()));
+        putIfChanged(fields, "startDateTime", format(before.getStartDateTime()), format(after.getStartDateTime()));
+        putIfChanged(fields, "endDateTime", format(before.getEndDateTime()), format(after.getEndDateTime()));
+        return new TaskDelta(TaskChangeOperation.UPDATE, after.getId(), after.getVersion(), fields);
+    }
+
+    public static TaskDelta completed(Long id, Long version, boolean completed, LocalDateTime completedAt) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("completed", completed);
+        fields.put("completedAt", format(completedAt));
+        return new TaskDelta(TaskChangeOperation.UPDATE, id, version, fields);
+    }
+
+    public static TaskDelta ranked(Long id, Long version, String rank) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("rank", rank);
+        return new TaskDelta(TaskChangeOperation.UPDATE, id, version, fields);
+    }
+
+    public static TaskDelta deleted(Long id, Long version) {
+        return new TaskDelta(TaskChangeOperation.DELETE, id, version, null);
+    }
+
+    public boolean isEmpty() {
+        return op == TaskChangeOperation.UPDATE && fields.isEmpty();
+    }
+
+    private static void putIfChanged(Map<String, Object> fields, String name, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            fields.put(name, after);
+        }
+    }
+
+    private static String format(LocalDateTime value) {
+        return value != null ? value.format(DATE_TIME_FORMAT) : null;
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.capstone.task.event;
+
+import com.capstone.member.dto.PinMembership;
+import com.capstone.member.service.MemberCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * TaskEventListener
+ * 할 일 변경을 트랜잭션 커밋 이후 핀 멤버 각자의 큐(/user/queue/tasks)로 전송합니다.
+ * 핀 토픽이 아닌 사용자 큐로 보내므로 핀 멤버가 아닌 사용자는 받을 수 없습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskEventListener {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MemberCacheService memberCacheService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        try {
+            for (PinMembership membership : memberCacheService.getPinMemberships(event.pinId())) {
+                messagingTemplate.convertAndSendToUser(membership.getUserId().toString(), "/queue/tasks", event);
+            }
+            log.debug("할 일 변경 알림 전송 성공: pinId={}, count={}", event.pinId(), event.changes().size());
+        } catch (Exception e) {
+            log.error("할 일 변경 알림 전송 실패: pinId={}, error={}", event.pinId(), e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.capstone.task.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TaskBulkRepository
+ * 여러 할 일을 (id, version) 배열과 조인하는 UPDATE/DELETE 한 문장으로 변경합니다.
+ * 각 행은 전달한 버전과 현재 버전이 같을 때만 변경되며(@Version과 동일한 낙관적 락),
+ * 변경된 행만 RETURNING으로 돌려받아 항목별 성공/충돌을 구분합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskBulkRepository {
+
+    /** 요청 순서(ord)는 이동한 할 일의 순서 키에 사용 */
+    private static final String VERSIONS = "unnest(?::bigint[], ?::bigint[]) WITH ORDINALITY AS v(id, version, ord)";
+
+    /** 재정렬 후 키 형식 (10자리 순번 + 'V', 키 사이와 앞뒤에 여유가 있음) */
+    private static final String REBALANCE_SQL = """
+            UPDATE tasks t
+            SET rank = lpad(r.position::text, 10, '0') || 'V', version = t.version + 1
+            FROM (SELECT id, row_number() OVER (ORDER BY rank, id) AS position FROM tasks WHERE pin_id = ?) r
+            WHERE t.id = r.id
+            RETURNING t.id, t.version, t.rank
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 완료 처리
+     * @return 변경된 할 일 ID → 변경 후 버전
+     */
+    public Map<Long, Long> completeAll(List<Long> ids, List<Long> versions, LocalDateTime completedAt) {
+        return update("completed = TRUE, completed_at = ?", ids, versions, Timestamp.valueOf(completedAt));
+    }
+
+    /**
+     * 완료 취소
+     * @return 변경된 할 일 ID → 변경 후 버전
+     */
+    public Map<Long, Long> reopenAll(List<Long> ids, List<Long> versions) {
+        return update("completed = FALSE, completed_at = NULL", ids, versions);
+    }
+
+    /**
+     * 다른 핀으로 이동 (이동한 핀의 마지막에 요청 순서대로 배치)
+     * @param ranks 할 일별 새 순서 키 (ids와 같은 순서)
+     * @return 변경된 할 일 ID → 변경 후 버전
+     */
+    public Map<Long, Long> moveAll(List<Long> ids, List<Long> versions, Long targetPinId, List<String> ranks) {
+        return update("pin_id = ?, rank = (?::text[])[v.ord]", ids, versions, targetPinId, ranks.toArray(String[]::new));
+    }
+
+    /**
+     * 핀의 순서 키를 현재 순서 그대로 짧은 키로 다시 부여
+     * @return 변경된 할 일 (ID, 변경 후 버전, 새 순서 키)
+     */
+    public List<RankedTask> rebalanceRanks(Long pinId) {
+        return jdbcTemplate.query(REBALANCE_SQL,
+                (rs, rowNum) -> new RankedTask(rs.getLong(1), rs.getLong(2), rs.getString(3)),
+                pinId);
+    }
+
+    /**
+     * 삭제
+     * @return 삭제된 할 일 ID
+     */
+    public List<Long> deleteAll(List<Long> ids, List<Long> versions) {
+        String sql = "DELETE FROM tasks t USING " + VERSIONS
+                + " WHERE t.id = v.id AND t.version = v.version RETURNING t.id";
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            statement.setArray(2, connection.createArrayOf("bigint", versions.toArray()));
+            return statement;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    /** 재정렬된 할 일 */
+    public record RankedTask(Long id, Long version, String rank) {
+    }
+
+    private Map<Long, Long> update(String assignments, List<Long> ids, List<Long> versions, Object... assignmentValues) {
+        String sql = "UPDATE tasks t SET " + assignments + ", updated_at = ?, version = t.version + 1"
+                + " FROM " + VERSIONS
+                + " WHERE t.id = v.id AND t.version = v.version RETURNING t.id, t.version";
+        Map<Long, Long> updated = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            int index = 1;
+            for (Object assignmentValue : assignmentValues) {
+                if (assignmentValue instanceof String[] values) {
+                    statement.setArray(index++, connection.createArrayOf("text", values));
+                } else {
+                    statement.setObject(index++, assignmentValue);
+                }
+            }
+            statement.setTimestamp(index++, Timestamp.valueOf(LocalDateTime.now()));
+            statement.setArray(index++, connection.createArrayOf("bigint", ids.toArray()));
+            statement.setArray(index, connection.createArrayOf("bigint", versions.toArray()));
+            return statement;
+        }, rs -> {
+            updated.put(rs.getLong(1), rs.getLong(2));
+        });
+        return updated;
+    }
+
+}
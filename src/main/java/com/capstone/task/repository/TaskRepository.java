@@ -2,15 +2,122 @@ package com.capstone.task.repository;
 
 import com.capstone.task.entity.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
-    /** 핀 ID로 할 일 목록 조회 */
-    List<Task> findByPinId(Long pinId);
+    /**
+     * 사용자가 속한 모든 핀에서 [from, to)와 기간이 겹치는 할 일 조회 (캘린더용)
+     * 종료 시각이 없거나 시작보다 이르면 시작 시각 한 시점으로 보며,
+     * (pin_id, tsrange) GiST 인덱스와 같은 식을 사용합니다.
+     */
+    @Query(value = """
+            SELECT t.id AS "id", t.title AS "title", t.completed AS "completed", t.completed_at AS "completedAt",
+                   p.id AS "pinId", p.title AS "pinTitle",
+                   t.start_date_time AS "startDateTime", t.end_date_time AS "endDateTime",
+                   t.created_at AS "createdAt", t.updated_at AS "updatedAt", t.version AS "version"
+            FROM members m
+            JOIN tasks t ON t.pin_id = m.pin_id
+            JOIN pins p ON p.id = t.pin_id
+            WHERE m.user_id = :userId
+              AND t.start_date_time IS NOT NULL
+              AND tsrange(t.start_date_time, GREATEST(t.start_date_time, t.end_date_time), '[]')
+                  && tsrange(:from, :to, '[)')
+            ORDER BY t.start_date_time, t.id
+            """, nativeQuery = true)
+    List<TaskCalendarRow> findCalendarRows(@Param("userId") Long userId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    /** 핀별 기한 초과(미완료이면서 종료 시각이 지난) 할 일 수 (부분 인덱스 idx_tasks_pin_open_deadline 사용) */
+    @Query(value = """
+            SELECT t.pin_id AS pinId, COUNT(*) AS overdueCount
+            FROM tasks t
+            WHERE t.pin_id IN (:pinIds) AND NOT t.completed
+              AND t.end_date_time IS NOT NULL AND t.end_date_time < :now
+            GROUP BY t.pin_id
+            """, nativeQuery = true)
+    List<PinOverdueCount> countOverdueByPinIdIn(@Param("pinIds") Collection<Long> pinIds, @Param("now") LocalDateTime now);
+
+    /** 일괄 처리 대상 할 일의 핀/버전 조회 (엔티티 로딩 없음) */
+    @Query("SELECT t.id AS id, p.id AS pinId, t.version AS version, t.completed AS completed " +
+           "FROM Task t LEFT JOIN t.pin p WHERE t.id IN :ids")
+    List<TaskVersionRow> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** ID 목록으로 할 일 조회 (핀 함께 로딩, 동기화용) */
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.pin WHERE t.id IN :ids")
+    List<Task> findAllWithPinByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 핀의 마지막 순서 키 ((pin_id, rank) 인덱스의 마지막 항목) */
+    @Query("SELECT MAX(t.rank) FROM Task t WHERE t.pin.id = :pinId")
+    String findMaxRankByPinId(@Param("pinId") Long pinId);
+
+    /** 순서 변경 기준 할 일의 핀/순서 키 조회 (엔티티 로딩 없음) */
+    @Query("SELECT t.id AS id, p.id AS pinId, t.rank AS rank FROM Task t LEFT JOIN t.pin p WHERE t.id IN :ids")
+    List<TaskRankRow> findRanksByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 순서 키가 maxLength보다 긴 할 일이 있는 핀 조회 (재정렬 작업용) */
+    @Query(value = "SELECT DISTINCT pin_id FROM tasks WHERE pin_id IS NOT NULL AND length(rank) > :maxLength LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findPinIdsWithRankLongerThan(@Param("maxLength") int maxLength, @Param("limit") int limit);
+
+    /** 핀의 할 일 개수 조회 (limit개까지만 세므로 이력 크기와 무관하게 빠름) */
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM tasks WHERE pin_id = :pinId LIMIT :limit) t", nativeQuery = true)
+    long countByPinIdUpTo(@Param("pinId") Long pinId, @Param("limit") long limit);
+
+    /** 핀의 할 일 일괄 삭제 (할 일 알림은 DB에서 ON DELETE CASCADE) */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.pin.id = :pinId")
+    int deleteAllByPinIdInBulk(@Param("pinId") Long pinId);
+
+    /** 핀의 할 일을 limit개씩 삭제 (정리 작업용) */
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE id IN (SELECT id FROM tasks WHERE pin_id = :pinId LIMIT :limit)", nativeQuery = true)
+    int deleteChunkByPinId(@Param("pinId") Long pinId, @Param("limit") int limit);
+
+    /** 캘린더 조회 프로젝션 */
+    interface TaskCalendarRow {
+        Long getId();
+        String getTitle();
+        Boolean getCompleted();
+        LocalDateTime getCompletedAt();
+        Long getPinId();
+        String getPinTitle();
+        LocalDateTime getStartDateTime();
+        LocalDateTime getEndDateTime();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+        Long getVersion();
+    }
+
+    /** 순서 변경용 프로젝션 */
+    interface TaskRankRow {
+        Long getId();
+        Long getPinId();
+        String getRank();
+    }
+
+    /** 핀별 기한 초과 할 일 수 프로젝션 */
+    interface PinOverdueCount {
+        Long getPinId();
+        Long getOverdueCount();
+    }
+
+    /** 일괄 처리 대상 확인용 프로젝션 */
+    interface TaskVersionRow {
+        Long getId();
+        Long getPinId();
+        Long getVersion();
+        Boolean getCompleted();
+    }
 
 }
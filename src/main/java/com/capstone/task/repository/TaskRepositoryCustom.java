@@ -0,0 +1,25 @@
+package com.capstone.task.repository;
+
+import com.capstone.task.dto.TaskCursor;
+import com.capstone.task.entity.Task;
+import com.capstone.task.enums.TaskSort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * 핀의 할 일을 keyset 페이지 조회
+     * - SCHEDULE: (completed, startDateTime, id) 순. 미완료 → 완료 순이며, 시작 시각이 없는 할 일은 각 그룹의 마지막에 옵니다.
+     * - RANK: (rank, id) 순. 사용자가 지정한 순서입니다.
+     * @param sort 정렬 기준
+     * @param completed 완료 여부 필터 (null이면 전체)
+     * @param from 시작 시각 하한 (포함, null이면 제한 없음)
+     * @param to 시작 시각 상한 (미포함, null이면 제한 없음)
+     * @param cursor 이전 페이지의 마지막 항목 (null이면 첫 페이지)
+     */
+    List<Task> findPageByPinId(Long pinId, TaskSort sort, Boolean completed, LocalDateTime from, LocalDateTime to,
+                               TaskCursor cursor, int limit);
+
+}
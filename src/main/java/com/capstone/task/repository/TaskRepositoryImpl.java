@@ -0,0 +1,95 @@
+package com.capstone.task.repository;
+
+import com.capstone.task.dto.TaskCursor;
+import com.capstone.task.entity.Task;
+import com.capstone.task.enums.TaskSort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TaskRepositoryCustom 구현
+ * 필터가 있는 조건만 JPQL에 추가하여 정렬 기준의 인덱스((pin_id, completed, start_date_time, id) 또는
+ * (pin_id, rank, id))를 순서대로 읽고 limit에서 멈추도록 합니다. (":param IS NULL OR ..." 형태는 인덱스 조건으로 쓰이지 않음)
+ */
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findPageByPinId(Long pinId, TaskSort sort, Boolean completed, LocalDateTime from, LocalDateTime to,
+                                      TaskCursor cursor, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT t FROM Task t JOIN FETCH t.pin p WHERE p.id = :pinId");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("pinId", pinId);
+
+        if (completed != null) {
+            jpql.append(" AND t.completed = :completed");
+            parameters.put("completed", completed);
+        }
+        if (from != null) {
+            jpql.append(" AND t.startDateTime >= :from");
+            parameters.put("from", from);
+        }
+        if (to != null) {
+            jpql.append(" AND t.startDateTime < :to");
+            parameters.put("to", to);
+        }
+        if (sort == TaskSort.RANK) {
+            if (cursor != null) {
+                appendRankKeyset(jpql, parameters, cursor);
+            }
+            jpql.append(" ORDER BY t.rank ASC, t.id ASC");
+        } else {
+            if (cursor != null) {
+                appendKeyset(jpql, parameters, completed, cursor);
+            }
+            // PostgreSQL의 ASC 정렬은 NULL을 마지막에 두므로 인덱스 순서와 같음
+            jpql.append(" ORDER BY t.completed ASC, t.startDateTime ASC NULLS LAST, t.id ASC");
+        }
+
+        TypedQuery<Task> query = entityManager.createQuery(jpql.toString(), Task.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /** 순서 키 기준 커서 이후 항목 조건 (핀의 할 일은 모두 순서 키가 있음) */
+    private void appendRankKeyset(StringBuilder jpql, Map<String, Object> parameters, TaskCursor cursor) {
+        if (cursor.rank() == null) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        jpql.append(" AND (t.rank > :cursorRank OR (t.rank = :cursorRank AND t.id > :cursorId))");
+        parameters.put("cursorRank", cursor.rank());
+        parameters.put("cursorId", cursor.id());
+    }
+
+    /** 커서 이후 항목 조건 (시작 시각이 NULL인 항목은 같은 완료 그룹의 마지막) */
+    private void appendKeyset(StringBuilder jpql, Map<String, Object> parameters, Boolean completed, TaskCursor cursor) {
+        String afterInGroup;
+        if (cursor.startDateTime() != null) {
+            afterInGroup = "(t.startDateTime > :cursorStart"
+                    + " OR (t.startDateTime = :cursorStart AND t.id > :cursorId)"
+                    + " OR t.startDateTime IS NULL)";
+            parameters.put("cursorStart", cursor.startDateTime());
+        } else {
+            afterInGroup = "(t.startDateTime IS NULL AND t.id > :cursorId)";
+        }
+        parameters.put("cursorId", cursor.id());
+
+        if (completed != null || cursor.completed()) {
+            // 완료 여부가 고정된 경우 같은 그룹 안에서만 이어서 조회
+            jpql.append(" AND t.completed = :cursorCompleted AND ").append(afterInGroup);
+            parameters.put("cursorCompleted", cursor.completed());
+        } else {
+            // 미완료 그룹의 커서: 미완료 그룹의 나머지 + 완료 그룹 전체
+            jpql.append(" AND ((t.completed = false AND ").append(afterInGroup).append(") OR t.completed = true)");
+        }
+    }
+
+}
@@ -0,0 +1,198 @@
+package com.capstone.task.service;
+
+import com.capstone.member.dto.PinMembership;
+import com.capstone.member.service.MemberCacheService;
+import com.capstone.task.dto.TaskInfo;
+import com.capstone.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+
+/**
+ * TaskCalendarService
+ * 사용자가 속한 모든 핀의 할 일을 기간(주 단위)으로 조회합니다.
+ * 조회 결과는 사용자별로 주(월요일 시작) 단위로 나누어 taskCalendar 캐시에 보관합니다.
+ * - 캐시 항목에는 조회 당시 사용자가 속한 핀 ID 목록을 함께 저장하여, 멤버십이 바뀌면 캐시를 사용하지 않습니다.
+ * - 할 일이 생성/수정/삭제되면 해당 핀 멤버들의 캐시를 제거하고 세대(generation) 값을 새로 발급합니다.
+ *   캐시 항목에는 조회 시작 전에 읽은 세대를 함께 저장하므로, 조회 중 변경이 커밋된 뒤 늦게 저장된 항목은 사용하지 않습니다.
+ * 캐시에 없는 주는 한 번의 쿼리로 함께 조회합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskCalendarService {
+
+    private static final String CALENDAR_CACHE = "taskCalendar";
+    private static final String GENERATION_KEY_PREFIX = "generation:";
+    private static final int MAX_RANGE_WEEKS = 6;
+    private static final int MAX_CACHED_WEEKS = 12;
+
+    private final TaskRepository taskRepository;
+    private final MemberCacheService memberCacheService;
+    private final CacheManager cacheManager;
+
+    /** [from, to)와 기간이 겹치는 할 일 조회 (시작 시각 순) */
+    public List<TaskInfo> getCalendar(Long userId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+
+        List<LocalDate> weeks = weeksCovering(from, to);
+        if (weeks.size() > MAX_RANGE_WEEKS) {
+            throw new IllegalArgumentException("캘린더는 최대 " + MAX_RANGE_WEEKS + "주까지 조회할 수 있습니다.");
+        }
+
+        List<Long> pinIds = memberCacheService.getPinIdsByUserId(userId).stream().sorted().toList();
+        if (pinIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 멤버십이 바뀐 뒤의 캐시 항목, 조회 이후 할 일이 변경된 캐시 항목은 사용하지 않음
+        Cache cache = cacheManager.getCache(CALENDAR_CACHE);
+        String generation = cache != null ? cache.get(GENERATION_KEY_PREFIX + userId, String.class) : null;
+        UserCalendar cached = cache != null ? cache.get(userId, UserCalendar.class) : null;
+        LinkedHashMap<LocalDate, List<TaskInfo>> cachedWeeks = cached != null
+                && cached.pinIds().equals(pinIds)
+                && Objects.equals(cached.generation(), generation)
+                ? new LinkedHashMap<>(cached.weeks())
+                : new LinkedHashMap<>();
+
+        List<LocalDate> missingWeeks = weeks.stream()
+                .filter(week -> !cachedWeeks.containsKey(week))
+                .toList();
+        if (!missingWeeks.isEmpty()) {
+            cachedWeeks.putAll(loadWeeks(userId, missingWeeks));
+            trim(cachedWeeks);
+            if (cache != null) {
+                // 조회 전에 읽은 세대로 저장 (트랜잭션 이후 저장되므로 그 사이 변경되었다면 다음 조회에서 버려짐)
+                cache.put(userId, new UserCalendar(pinIds, generation, cachedWeeks));
+            }
+        }
+
+        // 여러 주에 걸친 할 일은 한 번만 포함
+        Map<Long, TaskInfo> tasks = new LinkedHashMap<>();
+        for (LocalDate week : weeks) {
+            for (TaskInfo task : cachedWeeks.getOrDefault(week, List.of())) {
+                if (overlaps(task, from, to)) {
+                    tasks.putIfAbsent(task.getId(), task);
+                }
+            }
+        }
+
+        return tasks.values().stream()
+                .sorted(Comparator.comparing(TaskInfo::getStartDateTime).thenComparing(TaskInfo::getId))
+                .toList();
+    }
+
+    /** 핀의 할 일이 바뀐 경우 해당 핀 멤버들의 캘린더 캐시 제거 및 새 세대 발급 (트랜잭션 커밋 이후 반영) */
+    public void evictPinMembers(Long... pinIds) {
+        Cache cache = cacheManager.getCache(CALENDAR_CACHE);
+        if (cache == null) {
+            return;
+        }
+        Set<Long> userIds = new HashSet<>();
+        for (Long pinId : pinIds) {
+            if (pinId == null) {
+                continue;
+            }
+            for (PinMembership membership : memberCacheService.getPinMemberships(pinId)) {
+                userIds.add(membership.getUserId());
+            }
+        }
+        for (Long userId : userIds) {
+            cache.evict(userId);
+            cache.put(GENERATION_KEY_PREFIX + userId, UUID.randomUUID().toString());
+        }
+    }
+
+    /** 캐시에 없는 주를 한 번의 쿼리로 조회하여 주별로 나눔 */
+    private Map<LocalDate, List<TaskInfo>> loadWeeks(Long userId, List<LocalDate> missingWeeks) {
+        LocalDate first = missingWeeks.get(0);
+        LocalDate last = missingWeeks.get(missingWeeks.size() - 1);
+        List<TaskInfo> tasks = taskRepository.findCalendarRows(
+                        userId, first.atStartOfDay(), last.plusWeeks(1).atStartOfDay()).stream()
+                .map(TaskCalendarService::toTaskInfo)
+                .toList();
+
+        Map<LocalDate, List<TaskInfo>> weeks = new LinkedHashMap<>();
+        for (LocalDate week : missingWeeks) {
+            LocalDateTime weekStart = week.atStartOfDay();
+            LocalDateTime weekEnd = week.plusWeeks(1).atStartOfDay();
+            weeks.put(week, tasks.stream()
+                    .filter(task -> overlaps(task, weekStart, weekEnd))
+                    .toList());
+        }
+        return weeks;
+    }
+
+    private static TaskInfo toTaskInfo(TaskRepository.TaskCalendarRow row) {
+        return TaskInfo.builder()
+                .id(row.getId())
+                .title(row.getTitle())
+                .completed(row.getCompleted())
+                .completedAt(row.getCompletedAt())
+                .pinId(row.getPinId())
+                .pinTitle(row.getPinTitle())
+                .startDateTime(row.getStartDateTime())
+                .endDateTime(row.getEndDateTime())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .version(row.getVersion())
+                .build();
+    }
+
+    /** 최근에 조회한 주만 남김 (삽입 순서 기준) */
+    private void trim(LinkedHashMap<LocalDate, List<TaskInfo>> weeks) {
+        Iterator<LocalDate> iterator = weeks.keySet().iterator();
+        while (weeks.size() > MAX_CACHED_WEEKS && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private List<LocalDate> weeksCovering(LocalDateTime from, LocalDateTime to) {
+        LocalDate firstWeek = from.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        // to는 미포함이므로 마지막 순간이 속한 주까지
+        LocalDate lastWeek = to.minusNanos(1).toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long count = ChronoUnit.WEEKS.between(firstWeek, lastWeek) + 1;
+
+        List<LocalDate> weeks = new ArrayList<>();
+        for (long i = 0; i < Math.min(count, MAX_RANGE_WEEKS + 1L); i++) {
+            weeks.add(firstWeek.plusWeeks(i));
+        }
+        return weeks;
+    }
+
+    /** 할 일 기간 [start, max(start, end)]이 [from, to)와 겹치는지 확인 (쿼리의 tsrange 조건과 동일) */
+    private boolean overlaps(TaskInfo task, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = task.getStartDateTime();
+        if (start == null) {
+            return false;
+        }
+        LocalDateTime end = task.getEndDateTime() != null && task.getEndDateTime().isAfter(start)
+                ? task.getEndDateTime()
+                : start;
+        return start.isBefore(to) && !end.isBefore(from);
+    }
+
+    /** 사용자별 캘린더 캐시 항목 (조회 당시 핀 ID 목록, 조회 전 세대, 주별 할 일) */
+    public record UserCalendar(List<Long> pinIds, String generation, Map<LocalDate, List<TaskInfo>> weeks) implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.capstone.task.service;
+
+import com.capstone.pin.service.PinCacheService;
+import com.capstone.task.entity.Task;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 할 일 변경에 따른 핀별 할 일 수(전체/완료) 증감을 모아 핀당 한 번씩 반영합니다.
+ * 변경 전 상태는 remove, 변경 후 상태는 add로 기록합니다.
+ * 핀 행 잠금 순서가 보정 작업(PinTaskCountReconciler)과 같도록 핀 ID 순으로 반영합니다.
+ */
+class TaskCountChanges {
+
+    private final Map<Long, int[]> deltas = new TreeMap<>();
+
+    TaskCountChanges add(Task task) {
+        return task == null ? this : add(pinIdOf(task), task.getCompleted());
+    }
+
+    TaskCountChanges remove(Task task) {
+        return task == null ? this : remove(pinIdOf(task), task.getCompleted());
+    }
+
+    TaskCountChanges add(Long pinId, Boolean completed) {
+        return record(pinId, completed, 1);
+    }
+
+    TaskCountChanges remove(Long pinId, Boolean completed) {
+        return record(pinId, completed, -1);
+    }
+
+    void applyTo(PinCacheService pinCacheService) {
+        deltas.forEach((pinId, delta) -> pinCacheService.adjustTaskCounts(pinId, delta[0], delta[1]));
+    }
+
+    private TaskCountChanges record(Long pinId, Boolean completed, int sign) {
+        if (pinId == null) {
+            return this;
+        }
+        int[] delta = deltas.computeIfAbsent(pinId, id -> new int[2]);
+        delta[0] += sign;
+        delta[1] += Boolean.TRUE.equals(completed) ? sign : 0;
+        return this;
+    }
+
+    private Long pinIdOf(Task task) {
+        return task.getPin() != null ? task.getPin().getId() : null;
+    }
+
+}
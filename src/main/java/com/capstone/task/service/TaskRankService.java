@@ -0,0 +1,149 @@
+package com.capstone.task.service;
+
+import com.capstone.common.service.ClusterJobLock;
+import com.capstone.pin.repository.PinRepository;
+import com.capstone.task.event.TaskChangedEvent;
+import com.capstone.task.event.TaskDelta;
+import com.capstone.task.repository.TaskBulkRepository;
+import com.capstone.task.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TaskRankService
+ * 핀 안의 할 일 순서 키(rank)를 관리합니다.
+ * - 새 할 일과 다른 핀에서 옮겨 온 할 일은 핀의 마지막에 배치합니다. 마지막 키를 1 증가시킨 키를 사용하므로 길이가 늘지 않습니다.
+ * - 순서 변경은 두 이웃 키 사이의 키를 만들어 이동하는 할 일 한 행만 변경합니다.
+ * - 같은 위치에 반복해서 끼워 넣으면 키가 길어지므로, 정리 작업이 긴 키가 있는 핀의 키를 다시 부여합니다.
+ * 순서 변경과 재정렬은 핀 행을 잠근 뒤 키를 읽으므로, 재정렬 전의 키로 계산한 위치가 저장되지 않습니다.
+ * 정리 작업은 advisory lock으로 한 인스턴스에서만 실행합니다.
+ */
+@Slf4j
+@Service
+public class TaskRankService {
+
+    /** 컬럼 길이 (task.rank VARCHAR(64)) */
+    static final int MAX_RANK_LENGTH = 64;
+
+    private final TaskRepository taskRepository;
+    private final TaskBulkRepository taskBulkRepository;
+    private final PinRepository pinRepository;
+    private final ClusterJobLock clusterJobLock;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebalanceLength;
+
+    public TaskRankService(TaskRepository taskRepository,
+                           TaskBulkRepository taskBulkRepository,
+                           PinRepository pinRepository,
+                           ClusterJobLock clusterJobLock,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${task-rank.rebalance-length:24}") int rebalanceLength) {
+        this.taskRepository = taskRepository;
+        this.taskBulkRepository = taskBulkRepository;
+        this.pinRepository = pinRepository;
+        this.clusterJobLock = clusterJobLock;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebalanceLength = rebalanceLength;
+    }
+
+    /** 핀의 마지막 할 일보다 뒤인 순서 키 (핀이 없으면 null) */
+    public String rankAtEnd(Long pinId) {
+        return pinId != null ? ranksAtEnd(pinId, 1).get(0) : null;
+    }
+
+    /**
+     * 핀의 마지막 할 일 뒤에 차례로 놓을 순서 키 count개
+     * 마지막 키가 최대값이어서 키가 컬럼 길이를 넘으면 핀을 먼저 재정렬합니다 (호출자의 트랜잭션에 참여).
+     */
+    @Transactional
+    public List<String> ranksAtEnd(Long pinId, int count) {
+        List<String> ranks = nextRanks(taskRepository.findMaxRankByPinId(pinId), count);
+        if (ranks.get(ranks.size() - 1).length() > MAX_RANK_LENGTH) {
+            rebalance(pinId, null);
+            ranks = nextRanks(taskRepository.findMaxRankByPinId(pinId), count);
+        }
+        return ranks;
+    }
+
+    private List<String> nextRanks(String last, int count) {
+        List<String> ranks = new ArrayList<>(count);
+        String rank = last;
+        for (int i = 0; i < count; i++) {
+            rank = TaskRanks.after(rank);
+            ranks.add(rank);
+        }
+        return ranks;
+    }
+
+    /**
+     * 두 키 사이의 순서 키
+     * @return 키를 만들 수 없으면 (같은 키이거나 너무 긴 키, 재정렬 필요) null
+     */
+    public String rankBetween(String lower, String upper) {
+        if (lower != null && upper != null) {
+            int order = lower.compareTo(upper);
+            if (order > 0) {
+                throw new IllegalArgumentException("앞/뒤 할 일의 순서가 맞지 않습니다. 목록을 다시 불러와 주세요.");
+            }
+            if (order == 0) {
+                return null;
+            }
+        }
+        String rank = TaskRanks.between(lower, upper);
+        return rank.length() <= MAX_RANK_LENGTH ? rank : null;
+    }
+
+    /** 핀 행 잠금 (호출자의 트랜잭션 끝까지 같은 핀의 순서 변경/재정렬을 직렬화) */
+    @Transactional
+    public void lockPin(Long pinId) {
+        pinRepository.lockById(pinId);
+    }
+
+    /**
+     * 핀의 순서 키를 현재 순서 그대로 다시 부여 (호출자의 트랜잭션에 참여)
+     * 할 일마다 버전이 올라가며, 커밋 이후 핀 멤버에게 바뀐 순서 키를 알립니다.
+     */
+    @Transactional
+    public int rebalance(Long pinId, Long actorUserId) {
+        lockPin(pinId);
+        List<TaskBulkRepository.RankedTask> ranked = taskBulkRepository.rebalanceRanks(pinId);
+        if (!ranked.isEmpty()) {
+            eventPublisher.publishEvent(new TaskChangedEvent(pinId, actorUserId, ranked.stream()
+                    .map(task -> TaskDelta.ranked(task.id(), task.version(), task.rank()))
+                    .toList()));
+        }
+        return ranked.size();
+    }
+
+    /** 순서 키가 길어진 핀을 핀별 트랜잭션으로 재정렬 (한 인스턴스에서만 실행) */
+    @Scheduled(fixedDelayString = "${task-rank.rebalance-interval-ms:3600000}")
+    public void rebalanceLongRanks() {
+        clusterJobLock.runExclusively("task-rank-rebalance", this::rebalanceLongRanksOnce);
+    }
+
+    private void rebalanceLongRanksOnce() {
+        List<Long> pinIds = taskRepository.findPinIdsWithRankLongerThan(rebalanceLength, 100);
+        for (Long pinId : pinIds) {
+            try {
+                Integer count = transactionTemplate.execute(status -> rebalance(pinId, null));
+                log.info("할 일 순서 재정렬 완료: pinId={}, tasks={}", pinId, count);
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도
+                log.error("할 일 순서 재정렬 실패: pinId={}, error={}", pinId, e.getMessage());
+            }
+        }
+    }
+
+}
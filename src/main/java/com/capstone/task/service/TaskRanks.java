@@ -0,0 +1,83 @@
+package com.capstone.task.service;
+
+/**
+ * 할 일 순서 키(rank)를 만듭니다.
+ * 키는 0-9A-Za-z(62진수) 문자열이며 사전순으로 비교합니다. (DB 컬럼은 COLLATE "C"로 바이트 순서 비교)
+ * 두 키 사이에는 항상 새 키를 만들 수 있으므로, 순서 변경 시 이동하는 할 일 한 행만 변경합니다.
+ * 만든 키는 최소 자릿수('0')로 끝나지 않으므로 앞쪽에도 항상 여유가 있습니다.
+ * 맨 뒤에 추가하는 키는 마지막 키를 정수처럼 1 증가시켜 만들므로 추가를 반복해도 길이가 늘지 않습니다.
+ */
+final class TaskRanks {
+
+    static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    /** 빈 핀의 첫 키 (재정렬 후 키와 같은 형식: 10자리 순번 + 'V') */
+    static final String INITIAL = "0000000001V";
+
+    private TaskRanks() {
+    }
+
+    /**
+     * lower와 upper 사이의 키
+     * @param lower 이 키보다 뒤 (null이면 맨 앞)
+     * @param upper 이 키보다 앞 (null이면 맨 뒤)
+     * @throws IllegalStateException lower가 upper보다 앞이 아닌 경우 (같은 키, 재정렬 필요)
+     */
+    static String between(String lower, String upper) {
+        String low = lower != null ? lower : "";
+        if (upper != null && low.compareTo(upper) >= 0) {
+            throw new IllegalStateException("순서 키가 올바르지 않습니다: " + lower + " / " + upper);
+        }
+
+        StringBuilder rank = new StringBuilder();
+        String high = upper;
+        for (int i = 0; ; i++) {
+            int lo = i < low.length() ? digit(low.charAt(i)) : 0;
+            int hi = high != null && i < high.length() ? digit(high.charAt(i)) : BASE;
+            if (lo == hi) {
+                // 공통 접두사
+                rank.append(DIGITS.charAt(lo));
+                continue;
+            }
+            int mid = (lo + hi) / 2;
+            if (mid > lo) {
+                return rank.append(DIGITS.charAt(mid)).toString();
+            }
+            // 인접한 자리: lower 쪽 자리를 그대로 두고 다음 자리부터는 위쪽 제한 없음
+            rank.append(DIGITS.charAt(lo));
+            high = null;
+        }
+    }
+
+    /**
+     * key 바로 뒤의 키 (맨 뒤에 추가할 때 사용)
+     * key를 62진수 정수로 보고 1 증가시키며, 올림이 생긴 아래 자리는 '0' 대신 '1'로 채워 '0'으로 끝나지 않게 합니다.
+     * 모든 자리가 최대값('z')이면 key 뒤에 INITIAL을 붙입니다.
+     * @param key 마지막 키 (null이면 INITIAL)
+     */
+    static String after(String key) {
+        if (key == null || key.isEmpty()) {
+            return INITIAL;
+        }
+        char[] digits = key.toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int digit = digit(digits[i]);
+            if (digit < BASE - 1) {
+                digits[i] = DIGITS.charAt(digit + 1);
+                return new String(digits);
+            }
+            digits[i] = DIGITS.charAt(1);
+        }
+        return key + INITIAL;
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalStateException("순서 키에 사용할 수 없는 문자입니다: " + c);
+        }
+        return digit;
+    }
+
+}
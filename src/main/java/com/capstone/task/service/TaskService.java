@@ -1,23 +1,32 @@
 package com.capstone.task.service;
 
+import com.capstone.common.retry.OptimisticRetry;
+import com.capstone.common.util.ETags;
 import com.capstone.pin.entity.Pin;
 import com.capstone.pin.repository.PinRepository;
+import com.capstone.pin.service.PinCacheService;
 import com.capstone.task.dto.*;
 import com.capstone.task.entity.Task;
+import com.capstone.task.enums.BulkTaskAction;
+import com.capstone.task.enums.BulkTaskResultStatus;
+import com.capstone.task.enums.TaskSort;
+import com.capstone.task.event.TaskChangedEvent;
+import com.capstone.task.event.TaskDelta;
+import com.capstone.task.repository.TaskBulkRepository;
 import com.capstone.task.repository.TaskRepository;
-import com.capstone.user.entity.User;
 import com.capstone.user.service.UserCacheService;
-import com.capstone.member.entity.Member;
-import com.capstone.member.service.MemberCacheService;
-import com.capstone.member.enums.MemberRole;
+import com.capstone.member.cache.PinAuthorizationIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -28,19 +37,31 @@ public class TaskService {
     private final TaskRepository taskRepository;
     private final UserCacheService userCacheService;
     private final PinRepository pinRepository;
-    private final MemberCacheService memberCacheService;
+    private final PinAuthorizationIndex pinAuthorizationIndex;
+    private final TaskCalendarService taskCalendarService;
+    private final TaskBulkRepository taskBulkRepository;
+    private final PinCacheService pinCacheService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskRankService taskRankService;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     /** 할 일 생성 */
     @Transactional
     public TaskInfo createTask(Long userId, CreateTaskRequest request) {
-        // 사용자 조회
-        User user = userCacheService.getUserById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 사용자 존재 확인
+        if (userCacheService.getUserById(userId).isEmpty()) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
 
-        // 핀 조회 (선택)
+        // 핀 조회 (선택, 핀 멤버만 할 일을 추가할 수 있음)
         Pin pin = null;
         if (request.getPinId() != null) {
-            pin = pinRepository.findById(request.getPinId())
+            if (!pinAuthorizationIndex.isMember(userId, request.getPinId())) {
+                throw new IllegalArgumentException("해당 핀의 멤버가 아닙니다.");
+            }
+            pin = pinRepository.findActiveById(request.getPinId())
                     .orElseThrow(() -> new IllegalArgumentException("핀을 찾을 수 없습니다."));
         }
 
@@ -48,27 +69,71 @@ public class TaskService {
         Task task = Task.builder()
                 .title(request.getTitle())
                 .pin(pin)
+                .rank(taskRankService.rankAtEnd(request.getPinId()))
                 .startDateTime(request.getStartDateTime())
                 .endDateTime(request.getEndDateTime())
                 .build();
 
         Task savedTask = taskRepository.save(task);
+        new TaskCountChanges().add(savedTask).applyTo(pinCacheService);
+        taskCalendarService.evictPinMembers(request.getPinId());
         log.info("할 일 생성 성공: taskId={}, userId={}", savedTask.getId(), userId);
 
-        return TaskInfo.fromEntity(savedTask);
+        TaskInfo taskInfo = TaskInfo.fromEntity(savedTask);
+        publishChanges(request.getPinId(), userId, List.of(TaskDelta.created(taskInfo)));
+        return taskInfo;
     }
 
-    /** 할 일 조회 */
-    public List<TaskInfo> getTasks(Long userId, Long pinId) {
+    /** 할 일 조회 (완료 여부/시작 시각 필터, keyset 페이지네이션) */
+    public TaskPage getTasks(Long userId, Long pinId, TaskSort sort, Boolean completed, LocalDateTime from,
+                             LocalDateTime to, String cursor, Integer size) {
 
-        Member member = memberCacheService.getMemberByPinIdAndUserId(pinId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 핀의 멤버가 아닙니다."));
+        if (!pinAuthorizationIndex.isMember(userId, pinId)) {
+            throw new IllegalArgumentException("해당 핀의 멤버가 아닙니다.");
+        }
+
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
 
-        List<Task> tasks = taskRepository.findByPinId(pinId);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
 
-        return tasks.stream()
+        // 다음 페이지 존재 여부 확인을 위해 하나 더 조회
+        List<Task> tasks = taskRepository.findPageByPinId(
+                pinId, sort != null ? sort : TaskSort.SCHEDULE, completed, from, to, after, pageSize + 1);
+        boolean hasNext = tasks.size() > pageSize;
+
+        List<TaskInfo> taskInfos = tasks.stream()
+                .limit(pageSize)
                 .map(TaskInfo::fromEntity)
                 .collect(Collectors.toList());
+
+        return TaskPage.builder()
+                .tasks(taskInfos)
+                .nextCursor(hasNext ? TaskCursor.of(taskInfos.get(taskInfos.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /** 핀 할 일 목록 ETag (핀 행의 할 일 목록 버전, 멤버만 조회 가능) */
+    public String getTasksETag(Long userId, Long pinId) {
+        if (!pinAuthorizationIndex.isMember(userId, pinId)) {
+            throw new IllegalArgumentException("해당 핀의 멤버가 아닙니다.");
+        }
+        return ETags.of("tasks", pinId, pinRepository.findTaskListVersionById(pinId).orElse(null));
+    }
+
+    /** 캘린더 조회 (사용자가 속한 모든 핀의 할 일 중 기간이 겹치는 할 일) */
+    public List<TaskInfo> getCalendar(Long userId, LocalDateTime from, LocalDateTime to) {
+        return taskCalendarService.getCalendar(userId, from, to);
+    }
+
+    /** 캘린더 조회 결과 ETag (캐시된 조회 결과의 ID/버전 요약, 직렬화와 전송만 생략) */
+    public String getCalendarETag(List<TaskInfo> tasks) {
+        return ETags.of("calendar", tasks.stream()
+                .map(task -> task.getId() + "@" + task.getVersion())
+                .collect(Collectors.joining(",")));
     }
 
     /** 할 일 단건 조회 */
@@ -79,13 +144,15 @@ public class TaskService {
     }
 
     /** 할 일 수정 */
+    @OptimisticRetry
     @Transactional
     public TaskInfo updateTask(Long userId, Long taskId, UpdateTaskRequest request) {
         // 할 일 조회 및 권한 확인
-        Member requester = memberCacheService.getMemberByPinIdAndUserId(request.getPinId(), userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 핀의 멤버가 아닙니다."));
+        if (!pinAuthorizationIndex.isMember(userId, request.getPinId())) {
+            throw new IllegalArgumentException("해당 핀의 멤버가 아닙니다.");
+        }
 
-        if (requester.getRole() != MemberRole.OWNER) {
+        if (!pinAuthorizationIndex.isOwner(userId, request.getPinId())) {
             throw new IllegalArgumentException("수정 권한이 없습니다.");
         }
 
@@ -96,51 +163,321 @@ public class TaskService {
         Pin pin = null;
 
         if (request.getPinId() != null) {
-            pin = pinRepository.findById(request.getPinId())
+            pin = pinRepository.findActiveById(request.getPinId())
                     .orElseThrow(() -> new IllegalArgumentException("핀을 찾을 수 없습니다."));
         }
 
-        // 할 일 수정
+        // 할 일 수정 (핀이 바뀌면 이전 핀 멤버의 캘린더도 갱신)
+        Long previousPinId = task.getPin() != null ? task.getPin().getId() : null;
+        TaskInfo before = TaskInfo.fromEntity(task);
+        TaskCountChanges countChanges = new TaskCountChanges().remove(task);
         task.updateTask(request.getTitle(), pin, request.getStartDateTime(), request.getEndDateTime());
-        Task updatedTask = taskRepository.save(task);
+        if (!Objects.equals(previousPinId, request.getPinId())) {
+            // 다른 핀으로 옮기면 그 핀의 마지막에 배치
+            task.changeRank(taskRankService.rankAtEnd(request.getPinId()));
+        }
+        // 변경 알림과 응답에 증가된 버전을 담기 위해 즉시 flush
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        countChanges.add(updatedTask).applyTo(pinCacheService);
+        taskCalendarService.evictPinMembers(previousPinId, request.getPinId());
         log.info("할 일 수정 성공: taskId={}, userId={}", taskId, userId);
 
-        return TaskInfo.fromEntity(updatedTask);
+        // 핀이 바뀌면 이전 핀에는 삭제, 새 핀에는 생성으로 알림
+        TaskInfo after = TaskInfo.fromEntity(updatedTask);
+        if (Objects.equals(previousPinId, after.getPinId())) {
+            publishChanges(after.getPinId(), userId, List.of(TaskDelta.updated(before, after)));
+        } else {
+            publishChanges(previousPinId, userId, List.of(TaskDelta.deleted(taskId, after.getVersion())));
+            publishChanges(after.getPinId(), userId, List.of(TaskDelta.created(after)));
+        }
+        return after;
     }
 
     /** 할 일 삭제 */
+    @OptimisticRetry
     @Transactional
     public void deleteTask(Long userId, Long taskId) {
         // 할 일 조회 및 권한 확인
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("할 일을 찾을 수 없습니다."));
 
-        Member requester = memberCacheService.getMemberByPinIdAndUserId(task.getPin().getId(), userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 핀의 멤버가 아닙니다."));
+        if (!pinAuthorizationIndex.isMember(userId, task.getPin().getId())) {
+            throw new IllegalArgumentException("해당 핀의 멤버가 아닙니다.");
+        }
 
-        if (requester.getRole() != MemberRole.OWNER) {
+        if (!pinAuthorizationIndex.isOwner(userId, task.getPin().getId())) {
             throw new IllegalArgumentException("삭제 권한이 없습니다.");
         }
 
         taskRepository.delete(task);
+        new TaskCountChanges().remove(task).applyTo(pinCacheService);
+        taskCalendarService.evictPinMembers(task.getPin().getId());
+        publishChanges(task.getPin().getId(), userId, List.of(TaskDelta.deleted(taskId, task.getVersion())));
         log.info("할 일 삭제 성공: taskId={}, userId={}", taskId, userId);
     }
 
+    /**
+     * 할 일 일괄 처리 (완료/완료 취소/삭제/이동)
+     * 대상 할 일의 핀/버전을 한 번에 조회하고, 핀별로 한 번씩 권한을 확인한 뒤 한 문장으로 변경합니다.
+     * 버전이 다른 항목은 변경하지 않고 CONFLICT로 응답하며, 나머지 항목은 그대로 처리합니다.
+     */
+    @Transactional
+    public BulkTaskResponse bulkUpdateTasks(Long userId, BulkTaskRequest request) {
+        BulkTaskAction action = request.getAction();
+
+        // 이동할 핀 권한 확인 (요청 전체에 적용)
+        if (action == BulkTaskAction.MOVE) {
+            if (request.getTargetPinId() == null) {
+                throw new IllegalArgumentException("이동할 핀 ID는 필수입니다.");
+            }
+            if (!pinAuthorizationIndex.isOwner(userId, request.getTargetPinId())) {
+                throw new IllegalArgumentException("이동할 핀의 수정 권한이 없습니다.");
+            }
+        }
+
+        // 대상 할 일의 핀/현재 버전 조회 (중복 ID는 첫 항목만 처리)
+        Map<Long, BulkTaskRequest.Item> items = new LinkedHashMap<>();
+        for (BulkTaskRequest.Item item : request.getItems()) {
+            items.putIfAbsent(item.getTaskId(), item);
+        }
+        Map<Long, TaskRepository.TaskVersionRow> rows = taskRepository.findVersionsByIdIn(items.keySet()).stream()
+                .collect(Collectors.toMap(TaskRepository.TaskVersionRow::getId, Function.identity()));
+
+        // 핀별 권한 확인 (핀당 한 번)
+        Map<Long, Boolean> allowedPins = new HashMap<>();
+        Map<Long, BulkTaskResultStatus> failures = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+        List<Long> versions = new ArrayList<>();
+        for (BulkTaskRequest.Item item : items.values()) {
+            TaskRepository.TaskVersionRow row = rows.get(item.getTaskId());
+            if (row == null) {
+                failures.put(item.getTaskId(), BulkTaskResultStatus.NOT_FOUND);
+                continue;
+            }
+            boolean allowed = row.getPinId() != null && allowedPins.computeIfAbsent(row.getPinId(), pinId ->
+                    action.requiresOwner()
+                            ? pinAuthorizationIndex.isOwner(userId, pinId)
+                            : pinAuthorizationIndex.isMember(userId, pinId));
+            if (!allowed) {
+                failures.put(item.getTaskId(), BulkTaskResultStatus.FORBIDDEN);
+                continue;
+            }
+            if (item.getVersion() != null && !item.getVersion().equals(row.getVersion())) {
+                failures.put(item.getTaskId(), BulkTaskResultStatus.CONFLICT);
+                continue;
+            }
+            ids.add(row.getId());
+            versions.add(row.getVersion());
+        }
+
+        // 한 문장으로 변경 (그 사이 다른 요청이 변경한 항목은 제외됨)
+        Map<Long, Long> changed = new HashMap<>();
+        LocalDateTime completedAt = LocalDateTime.now();
+        if (!ids.isEmpty()) {
+            switch (action) {
+                case COMPLETE -> changed.putAll(taskBulkRepository.completeAll(ids, versions, completedAt));
+                case REOPEN -> changed.putAll(taskBulkRepository.reopenAll(ids, versions));
+                case MOVE -> changed.putAll(taskBulkRepository.moveAll(
+                        ids, versions, request.getTargetPinId(),
+                        taskRankService.ranksAtEnd(request.getTargetPinId(), ids.size())));
+                case DELETE -> taskBulkRepository.deleteAll(ids, versions)
+                        .forEach(id -> changed.put(id, null));
+            }
+        }
+
+        // 항목별 결과 (요청 순서)
+        List<BulkTaskResponse.ItemResult> results = new ArrayList<>();
+        Set<Long> affectedPins = new HashSet<>();
+        TaskCountChanges countChanges = new TaskCountChanges();
+        Map<Long, List<TaskDelta>> deltas = new LinkedHashMap<>();
+        int succeeded = 0;
+        for (Long taskId : items.keySet()) {
+            BulkTaskResultStatus status = failures.get(taskId);
+            if (status == null) {
+                status = changed.containsKey(taskId) ? BulkTaskResultStatus.SUCCESS : BulkTaskResultStatus.CONFLICT;
+            }
+            if (status == BulkTaskResultStatus.SUCCESS) {
+                succeeded++;
+                TaskRepository.TaskVersionRow row = rows.get(taskId);
+                affectedPins.add(row.getPinId());
+                recordCountChange(countChanges, action, row, request.getTargetPinId());
+                recordDelta(deltas, action, row, changed.get(taskId), completedAt);
+            }
+            results.add(BulkTaskResponse.ItemResult.builder()
+                    .taskId(taskId)
+                    .status(status)
+                    .version(status == BulkTaskResultStatus.SUCCESS ? changed.get(taskId) : null)
+                    .build());
+        }
+
+        if (succeeded > 0) {
+            countChanges.applyTo(pinCacheService);
+            if (action == BulkTaskAction.MOVE) {
+                affectedPins.add(request.getTargetPinId());
+            }
+            taskCalendarService.evictPinMembers(affectedPins.toArray(Long[]::new));
+
+            // 이동한 할 일은 이동한 핀 멤버에게 전체 필드로 알림
+            if (action == BulkTaskAction.MOVE) {
+                List<Long> movedIds = changed.keySet().stream().toList();
+                taskRepository.findAllWithPinByIdIn(movedIds).forEach(task -> deltas
+                        .computeIfAbsent(request.getTargetPinId(), pinId -> new ArrayList<>())
+                        .add(TaskDelta.created(TaskInfo.fromEntity(task))));
+            }
+            deltas.forEach((pinId, pinDeltas) -> publishChanges(pinId, userId, pinDeltas));
+        }
+
+        log.info("할 일 일괄 처리: action={}, userId={}, requested={}, succeeded={}",
+                action, userId, items.size(), succeeded);
+
+        return BulkTaskResponse.builder()
+                .succeeded(succeeded)
+                .failed(items.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 할 일 순서 변경
+     * 앞/뒤 할 일의 순서 키 사이의 키를 부여하므로 옮기는 할 일 한 행만 변경합니다.
+     * 앞/뒤 할 일의 키가 같거나 사이 키가 너무 길어지면 핀의 순서 키를 다시 부여한 뒤 계산합니다.
+     */
+    @OptimisticRetry
+    @Transactional
+    public TaskInfo moveTask(Long userId, Long taskId, MoveTaskRequest request) {
+        Long previousTaskId = request.getPreviousTaskId();
+        Long nextTaskId = request.getNextTaskId();
+        if (previousTaskId == null && nextTaskId == null) {
+            throw new IllegalArgumentException("이동할 위치(앞 또는 뒤 할 일)는 필수입니다.");
+        }
+        if (taskId.equals(previousTaskId) || taskId.equals(nextTaskId)) {
+            throw new IllegalArgumentException("옮기는 할 일을 기준 위치로 지정할 수 없습니다.");
+        }
+
+        // 옮기는 할 일과 앞/뒤 할 일의 핀/순서 키를 한 번에 조회
+        List<Long> ids = Stream.of(taskId, previousTaskId, nextTaskId).filter(Objects::nonNull).toList();
+        Map<Long, TaskRepository.TaskRankRow> rows = findRanks(ids);
+        TaskRepository.TaskRankRow target = rows.get(taskId);
+        if (target == null) {
+            throw new IllegalArgumentException("할 일을 찾을 수 없습니다.");
+        }
+        Long pinId = target.getPinId();
+        if (pinId == null) {
+            throw new IllegalArgumentException("핀에 속한 할 일만 순서를 변경할 수 있습니다.");
+        }
+        if (!pinAuthorizationIndex.isMember(userId, pinId)) {
+            throw new IllegalArgumentException("해당 핀의 멤버가 아닙니다.");
+        }
+
+        // 재정렬과 같은 핀 잠금을 잡은 뒤 순서 키를 다시 읽음 (그 사이 재정렬된 키로 계산하지 않도록)
+        taskRankService.lockPin(pinId);
+        rows = findRanks(ids);
+        target = rows.get(taskId);
+        if (target == null || !pinId.equals(target.getPinId())) {
+            throw new IllegalArgumentException("할 일이 변경되었습니다. 목록을 다시 불러와 주세요.");
+        }
+
+        String rank = rankBetween(rows, pinId, previousTaskId, nextTaskId);
+        if (rank == null) {
+            taskRankService.rebalance(pinId, userId);
+            rank = rankBetween(findRanks(ids), pinId, previousTaskId, nextTaskId);
+            if (rank == null) {
+                throw new IllegalArgumentException("순서를 변경할 수 없습니다. 목록을 다시 불러와 주세요.");
+            }
+        }
+
+        // 재정렬 이후에 엔티티를 조회하므로 변경된 버전을 기준으로 저장
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("할 일을 찾을 수 없습니다."));
+        TaskInfo before = TaskInfo.fromEntity(task);
+        task.changeRank(rank);
+        Task movedTask = taskRepository.saveAndFlush(task);
+        log.info("할 일 순서 변경 성공: taskId={}, userId={}", taskId, userId);
+
+        TaskInfo after = TaskInfo.fromEntity(movedTask);
+        publishChanges(pinId, userId, List.of(TaskDelta.updated(before, after)));
+        return after;
+    }
+
+    private Map<Long, TaskRepository.TaskRankRow> findRanks(List<Long> ids) {
+        return taskRepository.findRanksByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskRepository.TaskRankRow::getId, Function.identity()));
+    }
+
+    /** 앞/뒤 할 일 사이의 순서 키 (같은 핀의 할 일만 기준으로 사용, 만들 수 없으면 null) */
+    private String rankBetween(Map<Long, TaskRepository.TaskRankRow> rows, Long pinId,
+                               Long previousTaskId, Long nextTaskId) {
+        String lower = neighborRank(rows, pinId, previousTaskId);
+        String upper = neighborRank(rows, pinId, nextTaskId);
+        return taskRankService.rankBetween(lower, upper);
+    }
+
+    private String neighborRank(Map<Long, TaskRepository.TaskRankRow> rows, Long pinId, Long neighborId) {
+        if (neighborId == null) {
+            return null;
+        }
+        TaskRepository.TaskRankRow row = rows.get(neighborId);
+        if (row == null || !pinId.equals(row.getPinId())) {
+            throw new IllegalArgumentException("같은 핀의 할 일을 기준 위치로 지정해야 합니다.");
+        }
+        return row.getRank();
+    }
+
+    /** 일괄 처리로 변경된 할 일의 변경 전/후 상태를 핀별 할 일 수에 반영 */
+    private void recordCountChange(TaskCountChanges countChanges, BulkTaskAction action,
+                                   TaskRepository.TaskVersionRow row, Long targetPinId) {
+        countChanges.remove(row.getPinId(), row.getCompleted());
+        switch (action) {
+            case COMPLETE -> countChanges.add(row.getPinId(), true);
+            case REOPEN -> countChanges.add(row.getPinId(), false);
+            case MOVE -> countChanges.add(targetPinId, row.getCompleted());
+            case DELETE -> {
+            }
+        }
+    }
+
+    /** 일괄 처리로 변경된 할 일의 변경 내용을 핀별로 기록 (이동은 이전 핀에서 삭제) */
+    private void recordDelta(Map<Long, List<TaskDelta>> deltas, BulkTaskAction action,
+                             TaskRepository.TaskVersionRow row, Long version, LocalDateTime completedAt) {
+        TaskDelta delta = switch (action) {
+            case COMPLETE -> TaskDelta.completed(row.getId(), version, true, completedAt);
+            case REOPEN -> TaskDelta.completed(row.getId(), version, false, null);
+            case MOVE, DELETE -> TaskDelta.deleted(row.getId(), version != null ? version : row.getVersion());
+        };
+        deltas.computeIfAbsent(row.getPinId(), pinId -> new ArrayList<>()).add(delta);
+    }
+
+    /** 커밋 이후 핀 멤버에게 할 일 변경 알림 (핀이 없거나 바뀐 필드가 없으면 생략) */
+    private void publishChanges(Long pinId, Long userId, List<TaskDelta> deltas) {
+        List<TaskDelta> changes = deltas.stream().filter(delta -> !delta.isEmpty()).toList();
+        if (pinId != null && !changes.isEmpty()) {
+            eventPublisher.publishEvent(new TaskChangedEvent(pinId, userId, changes));
+        }
+    }
+
     /** 할 일 완료 처리 */
+    @OptimisticRetry
     @Transactional
     public TaskInfo completeTask(Long userId, Long taskId) {
         // 할 일 조회 및 권한 확인
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("할 일을 찾을 수 없습니다."));
 
-        Member requester = memberCacheService.getMemberByPinIdAndUserId(task.getPin().getId(), userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 핀의 멤버가 아닙니다."));
+        if (!pinAuthorizationIndex.isMember(userId, task.getPin().getId())) {
+            throw new IllegalArgumentException("해당 핀의 멤버가 아닙니다.");
+        }
 
+        TaskInfo before = TaskInfo.fromEntity(task);
+        TaskCountChanges countChanges = new TaskCountChanges().remove(task);
         task.markAsCompleted();
-        Task completedTask = taskRepository.save(task);
+        Task completedTask = taskRepository.saveAndFlush(task);
+        countChanges.add(completedTask).applyTo(pinCacheService);
+        taskCalendarService.evictPinMembers(task.getPin().getId());
         log.info("할 일 완료 처리 성공: taskId={}, userId={}", taskId, userId);
 
-        return TaskInfo.fromEntity(completedTask);
+        TaskInfo after = TaskInfo.fromEntity(completedTask);
+        publishChanges(after.getPinId(), userId, List.of(TaskDelta.updated(before, after)));
+        return after;
     }
 
 }
@@ -0,0 +1,235 @@
+package com.capstone.user.cache;
+
+import com.capstone.common.cache.BloomFilter;
+import com.capstone.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * UserExistenceFilter
+ * username/email 중복 검사 전에 확인하는 Bloom 필터입니다.
+ * 애플리케이션 시작 시 users 테이블을 스트리밍하여 만들고, 사용자 저장 시마다 추가합니다.
+ * "확실히 없음"인 경우에만 DB 조회를 생략하며, 있을 수 있는 경우는 DB(unique 제약 조건)로 확인합니다.
+ * 삭제/이메일 변경으로 남은 값은 주기적으로 필터를 다시 만들어 정리합니다.
+ * 필터는 노드마다 따로 있으므로, 추가한 값은 전용 채널(user-existence:added)로 다른 노드에도 전달합니다.
+ * 채널에는 username/email 대신 Bloom 필터의 기본 해시만 보내며, 각 노드가 자기 필터 크기에 맞게 비트 위치를 계산합니다.
+ * (전달이 누락된 경우에도 저장 시 unique 제약 조건으로 중복이 걸러짐)
+ */
+@Slf4j
+@Component
+public class UserExistenceFilter implements MessageListener {
+
+    public static final String CHANNEL = "user-existence:added";
+
+    private static final String USERNAME_FIELD = "username";
+    private static final String EMAIL_FIELD = "email";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+
+    /** 현재 사용 중인 필터 (최초 생성 전에는 null → 항상 DB 확인) */
+    private volatile Filters current;
+
+    /** 재생성 중인 필터 (재생성 중 추가된 값을 함께 기록) */
+    private volatile Filters rebuilding;
+
+    private final AtomicLong insertions = new AtomicLong();
+
+    /** 재생성은 한 번에 하나만 (DB 스트리밍 중 대기하므로 synchronized 대신 사용해 가상 스레드 고정을 피함) */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile long capacity;
+
+    public UserExistenceFilter(UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               RedisTemplate<String, String> redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               ObjectMapper objectMapper,
+                               @Value("${user-existence-filter.expected-insertions:100000}") long minExpectedInsertions,
+                               @Value("${user-existence-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /** 사용 중일 가능성이 있는 username인지 확인 (false면 DB 조회 없이 사용 가능) */
+    public boolean mightContainUsername(String username) {
+        Filters filters = current;
+        return record("username", filters == null || filters.usernames().mightContain(username), filters);
+    }
+
+    /** 사용 중일 가능성이 있는 email인지 확인 (false면 DB 조회 없이 사용 가능) */
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return record("email", filters == null || filters.emails().mightContain(email), filters);
+    }
+
+    /** 저장된 사용자의 username/email 추가 후 다른 노드에 전달 (트랜잭션 커밋 전에 호출해도 오탐만 늘어남) */
+    public void add(String username, String email) {
+        BloomFilter.Hashes usernameHashes = username != null ? BloomFilter.hashesOf(username) : null;
+        BloomFilter.Hashes emailHashes = email != null ? BloomFilter.hashesOf(email) : null;
+        addLocal(usernameHashes, emailHashes);
+        publish(USERNAME_FIELD, usernameHashes);
+        publish(EMAIL_FIELD, emailHashes);
+    }
+
+    /** 다른 노드에서 추가한 username/email 해시 반영 */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            UserExistenceMessage added = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), UserExistenceMessage.class);
+            if (nodeId.equals(added.origin())) {
+                return;
+            }
+            BloomFilter.Hashes hashes = new BloomFilter.Hashes(added.first(), added.second());
+            if (USERNAME_FIELD.equals(added.field())) {
+                addLocal(hashes, null);
+            } else if (EMAIL_FIELD.equals(added.field())) {
+                addLocal(null, hashes);
+            }
+        } catch (Exception e) {
+            log.warn("사용자 존재 필터 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 재생성 중 다른 노드에서 추가된 값도 새 필터에 반영되도록 구독 후 생성 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        rebuild();
+    }
+
+    /** 삭제/변경된 값을 정리하기 위해 주기적으로 재생성 */
+    @Scheduled(cron = "${user-existence-filter.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        rebuildLock.lock();
+        long startedAt = System.currentTimeMillis();
+        try {
+            long expectedInsertions = Math.max(minExpectedInsertions, userRepository.count() * 2);
+            Filters filters = new Filters(
+                    new BloomFilter(expectedInsertions, falsePositiveRate),
+                    new BloomFilter(expectedInsertions, falsePositiveRate)
+            );
+
+            // 스트리밍 중 저장되는 사용자도 새 필터에 반영되도록 먼저 등록
+            rebuilding = filters;
+            Long count = readOnlyTransaction.execute(status -> {
+                long loaded = 0;
+                try (Stream<UserRepository.UserIdentifier> identifiers = userRepository.streamAllIdentifiers()) {
+                    for (UserRepository.UserIdentifier identifier : (Iterable<UserRepository.UserIdentifier>) identifiers::iterator) {
+                        put(filters, identifier.getUsername(), identifier.getEmail());
+                        loaded++;
+                    }
+                }
+                return loaded;
+            });
+
+            current = filters;
+            capacity = expectedInsertions;
+            insertions.set(count == null ? 0 : count);
+            log.info("사용자 존재 필터 생성 완료: users={}, bits={}, hashFunctions={}, elapsedMs={}",
+                    count, filters.usernames().getBitSize(), filters.usernames().getHashFunctions(),
+                    System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 기존 필터(또는 필터 없음 = 항상 DB 확인)를 그대로 사용
+            log.error("사용자 존재 필터 생성 실패: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    /** 예상 크기를 넘으면 오탐률이 급격히 높아지므로 정기 재생성 전이라도 다시 생성 */
+    @Scheduled(fixedDelayString = "${user-existence-filter.saturation-check-ms:600000}")
+    public void rebuildIfSaturated() {
+        if (current != null && insertions.get() > capacity) {
+            log.info("사용자 존재 필터 용량 초과, 재생성합니다: insertions={}, capacity={}", insertions.get(), capacity);
+            rebuild();
+        }
+    }
+
+    private void addLocal(BloomFilter.Hashes username, BloomFilter.Hashes email) {
+        for (Filters filters : new Filters[]{current, rebuilding}) {
+            if (filters == null) {
+                continue;
+            }
+            if (username != null) {
+                filters.usernames().put(username);
+            }
+            if (email != null) {
+                filters.emails().put(email);
+            }
+        }
+        insertions.incrementAndGet();
+    }
+
+    private void publish(String field, BloomFilter.Hashes hashes) {
+        if (hashes == null) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(
+                    new UserExistenceMessage(nodeId, field, hashes.first(), hashes.second()));
+            redisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (Exception e) {
+            // 전달되지 않은 노드에서는 unique 제약 조건으로 중복이 걸러짐
+            log.warn("사용자 존재 필터 메시지 발행 실패: field={}, error={}", field, e.getMessage());
+        }
+    }
+
+    private void put(Filters filters, String username, String email) {
+        if (filters == null) {
+            return;
+        }
+        if (username != null) {
+            filters.usernames().put(username);
+        }
+        if (email != null) {
+            filters.emails().put(email);
+        }
+    }
+
+    private boolean record(String field, boolean mightContain, Filters filters) {
+        String result = filters == null ? "not_ready" : (mightContain ? "positive" : "negative");
+        meterRegistry.counter("user.existence.filter", "field", field, "result", result).increment();
+        return mightContain;
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.capstone.user.cache;
+
+/**
+ * 노드 간 사용자 존재 필터 추가 메시지
+ * 원래 username/email 대신 Bloom 필터의 기본 해시만 전달합니다.
+ * @param field username 또는 email
+ */
+public record UserExistenceMessage(String origin, String field, long first, long second) {
+}
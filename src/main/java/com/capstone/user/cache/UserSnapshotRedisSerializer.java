@@ -0,0 +1,111 @@
+package com.capstone.user.cache;
+
+import com.capstone.user.dto.UserSnapshot;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.*;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * UserSnapshotRedisSerializer
+ * UserSnapshot을 Java 직렬화 대신 고정 순서의 바이너리 형식으로 인코딩합니다.
+ * 형식: [포맷 버전][id][username][name][email][phone][provider][createdDate][version]
+ * 문자열/날짜/숫자 필드는 null 여부를 1바이트로 먼저 기록합니다.
+ * 포맷 버전이 다른 값은 캐시 미스로 처리합니다.
+ */
+public class UserSnapshotRedisSerializer implements RedisSerializer<UserSnapshot> {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    @Override
+    public byte[] serialize(UserSnapshot snapshot) throws SerializationException {
+        if (snapshot == null) {
+            return new byte[0];
+        }
+
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeLong(out, snapshot.getId());
+            writeString(out, snapshot.getUsername());
+            writeString(out, snapshot.getName());
+            writeString(out, snapshot.getEmail());
+            writeString(out, snapshot.getPhone());
+            writeString(out, snapshot.getProvider());
+            writeDateTime(out, snapshot.getCreatedDate());
+            writeLong(out, snapshot.getVersion());
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("UserSnapshot 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public UserSnapshot deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            // 이전 형식(Java 직렬화 등)으로 저장된 값은 캐시 미스로 처리하여 다시 적재
+            if (in.readByte() != FORMAT_VERSION) {
+                return null;
+            }
+            return UserSnapshot.builder()
+                    .id(readLong(in))
+                    .username(readString(in))
+                    .name(readString(in))
+                    .email(readString(in))
+                    .phone(readString(in))
+                    .provider(readString(in))
+                    .createdDate(readDateTime(in))
+                    .version(readLong(in))
+                    .build();
+        } catch (IOException e) {
+            throw new SerializationException("UserSnapshot 역직렬화 실패", e);
+        }
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+}
@@ -15,6 +15,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -33,12 +34,18 @@ public class UserController {
     )
     @ApiResponses({
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
     })
     @GetMapping("/{username}")
     public ResponseEntity<ApiResponse<UserInfo>> getUserProfile(
             @Parameter(description = "사용자 username", required = true, example = "test")
-            @PathVariable String username) {
+            @PathVariable String username,
+            WebRequest webRequest) {
+        String eTag = userService.getUserProfileETag(username);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         UserInfo userInfo = userService.getUserProfile(username);
         return ResponseEntity.ok(ApiResponse.success(userInfo));
     }
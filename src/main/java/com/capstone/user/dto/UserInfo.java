@@ -20,6 +20,16 @@ public class UserInfo {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
     private LocalDateTime createdDate;
 
+    public static UserInfo from(UserSnapshot user) {
+        return UserInfo.builder()
+                .username(user.getUsername())
+                .name(user.getName())
+                .phone(user.getPhone())
+                .email(user.getEmail())
+                .createdDate(user.getCreatedDate())
+                .build();
+    }
+
     public static UserInfo fromEntity(User user) {
         return UserInfo.builder()
                 .username(user.getUsername())
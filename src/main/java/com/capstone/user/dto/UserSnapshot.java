@@ -0,0 +1,40 @@
+package com.capstone.user.dto;
+
+import com.capstone.user.entity.User;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * UserSnapshot
+ * 캐시에 저장되는 불변 사용자 정보입니다.
+ * 비밀번호 등 민감 정보와 JPA 연관 관계를 포함하지 않으며, 수정이 필요하면 엔티티를 다시 조회합니다.
+ */
+@Value
+@Builder
+public class UserSnapshot {
+
+    Long id;
+    String username;
+    String name;
+    String email;
+    String phone;
+    String provider;
+    LocalDateTime createdDate;
+    Long version;
+
+    public static UserSnapshot from(User user) {
+        return UserSnapshot.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .name(user.getName())
+                .email(user.getEmail())
+                .phone(user.getPhone())
+                .provider(user.getProvider())
+                .createdDate(user.getCreatedDate())
+                .version(user.getVersion())
+                .build();
+    }
+
+}
@@ -11,7 +11,18 @@ import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(
+        name = "users",
+        uniqueConstraints = {
+                @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+                @UniqueConstraint(name = User.PHONE_CONSTRAINT, columnNames = "phone"),
+                @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email"),
+                @UniqueConstraint(
+                        name = "uk_users_provider_provider_id",
+                        columnNames = {"provider", "provider_id"}
+                )
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -20,12 +31,17 @@ public class User implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /** unique 제약 조건 이름 (docker/init.sql/12-users-unique-constraint-names.sql) */
+    public static final String USERNAME_CONSTRAINT = "uk_users_username";
+    public static final String PHONE_CONSTRAINT = "uk_users_phone";
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id", nullable = false, updatable = false)
     private Long id;
 
-    @Column(name = "username", length = 100, nullable = false, unique = true, updatable = false)
+    @Column(name = "username", length = 100, nullable = false, updatable = false)
     private String username;
 
     @Column(name = "password", nullable = false)
@@ -34,10 +50,10 @@ public class User implements Serializable {
     @Column(name = "name", length = 30, nullable = false)
     private String name;
 
-    @Column(name = "phone", length = 20, unique = true)
+    @Column(name = "phone", length = 20)
     private String phone;
 
-    @Column(name = "email", length = 100, unique = true)
+    @Column(name = "email", length = 100)
     private String email;
 
     @Column(name = "provider", length = 20)
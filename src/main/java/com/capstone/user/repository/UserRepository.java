@@ -5,10 +5,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -22,7 +29,54 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /** 전화번호로 사용자 조회 */
     Optional<User> findByPhone(String phone);
 
+    /** 사용자 이름 존재 여부 */
+    boolean existsByUsername(String username);
+
+    /** 이메일 존재 여부 */
+    boolean existsByEmail(String email);
+
+    /** 존재 필터 생성용 username/email 스트리밍 조회 (트랜잭션 안에서 사용) */
+    @Query("SELECT u.username AS username, u.email AS email FROM User u")
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<UserIdentifier> streamAllIdentifiers();
+
+    /** username 목록으로 사용자 요약 일괄 조회 */
+    @Query("SELECT u.id AS id, u.username AS username, u.name AS name FROM User u WHERE u.username IN :usernames")
+    List<UserSummary> findSummariesByUsernameIn(@Param("usernames") Collection<String> usernames);
+
     /** OAuth2 제공자와 제공자 ID로 사용자 조회 */
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
 
+    /**
+     * username 중복 시 사용할 가장 큰 숫자 suffix 조회
+     * {base}가 없으면 null, {base}만 있으면 0, {base}_{n}이 있으면 가장 큰 n을 반환합니다.
+     */
+    @Query(value = """
+            SELECT MAX(CASE WHEN u.username = :baseUsername THEN 0
+                            ELSE CAST(SUBSTRING(u.username FROM :suffixStart) AS INTEGER) END)
+            FROM users u
+            WHERE u.username = :baseUsername
+               OR (u.username LIKE :suffixPattern ESCAPE '\\'
+                   AND SUBSTRING(u.username FROM :suffixStart) ~ '^[0-9]{1,9}$')
+            """, nativeQuery = true)
+    Integer findMaxUsernameSuffix(@Param("baseUsername") String baseUsername,
+                                  @Param("suffixPattern") String suffixPattern,
+                                  @Param("suffixStart") int suffixStart);
+
+    /** id/username/name 프로젝션 */
+    interface UserSummary {
+        Long getId();
+        String getUsername();
+        String getName();
+    }
+
+    /** username/email 프로젝션 */
+    interface UserIdentifier {
+        String getUsername();
+        String getEmail();
+    }
+
 }
@@ -1,14 +1,19 @@
 package com.capstone.user.service;
 
+import com.capstone.user.cache.UserExistenceFilter;
+import com.capstone.user.dto.UserSnapshot;
 import com.capstone.user.entity.User;
 import com.capstone.user.repository.UserRepository;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -17,52 +22,109 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class UserCacheService {
 
+    private static final String USER_CACHE = "user";
+
     private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final UserExistenceFilter userExistenceFilter;
 
-    @Cacheable(value = "user", key = "'username:' + #username")
-    public Optional<User> getUserByUsername(String username) {
-        return userRepository.findByUsername(username);
+    @Cacheable(value = "user", key = "'username:' + #username", sync = true)
+    public Optional<UserSnapshot> getUserByUsername(String username) {
+        return userRepository.findByUsername(username).map(UserSnapshot::from);
     }
 
-    @Cacheable(value = "user", key = "'email:' + #email")
-    public Optional<User> getUserByEmail(String email) {
-        return userRepository.findByEmail(email);
+    @Cacheable(value = "user", key = "'email:' + #email", sync = true)
+    public Optional<UserSnapshot> getUserByEmail(String email) {
+        return userRepository.findByEmail(email).map(UserSnapshot::from);
+    }
+
+    @Cacheable(value = "user", key = "'phone:' + #phone", sync = true)
+    public Optional<UserSnapshot> getUserByPhone(String phone) {
+        return userRepository.findByPhone(phone).map(UserSnapshot::from);
+    }
+
+    @Cacheable(value = "user", key = "'id:' + #userId", sync = true)
+    public Optional<UserSnapshot> getUserById(Long userId) {
+        return userRepository.findById(userId).map(UserSnapshot::from);
+    }
+
+    /** 수정/인증이 필요한 경우 캐시를 거치지 않고 엔티티 조회 */
+    public Optional<User> loadUserByUsername(String username) {
+        return userRepository.findByUsername(username);
     }
 
-    @Cacheable(value = "user", key = "'phone:' + #phone")
-    public Optional<User> getUserByPhone(String phone) {
-        return userRepository.findByPhone(phone);
+    /** username 목록으로 사용자 요약 일괄 조회 (IN 쿼리 한 번, 캐시를 거치지 않음) */
+    public List<UserRepository.UserSummary> getUserSummariesByUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return List.of();
+        }
+        return userRepository.findSummariesByUsernameIn(usernames);
     }
 
-    @Cacheable(value = "user", key = "'id:' + #userId")
-    public Optional<User> getUserById(Long userId) {
-        return userRepository.findById(userId);
+    /** 연관 관계 설정용 엔티티 참조 (조회 쿼리 없음) */
+    public User getUserReference(Long userId) {
+        return userRepository.getReferenceById(userId);
     }
 
+    /** 존재 필터에서 "확실히 없음"이면 DB 조회 생략 */
     public boolean isExistsByUsername(String username) {
-        return userRepository.findByUsername(username).isPresent();
+        return userExistenceFilter.mightContainUsername(username) && userRepository.existsByUsername(username);
     }
 
+    /** 존재 필터에서 "확실히 없음"이면 DB 조회 생략 */
     public boolean isExistsByEmail(String email) {
-        return userRepository.findByEmail(email).isPresent();
+        return userExistenceFilter.mightContainEmail(email) && userRepository.existsByEmail(email);
     }
 
+    /** unique 제약 조건 위반(DataIntegrityViolationException)이 호출한 메서드 안에서 발생하도록 즉시 flush */
     @Transactional
-    @CacheEvict(value = "user", allEntries = true)
     public User saveUser(User user) {
-        return userRepository.save(user);
+        User savedUser = userRepository.saveAndFlush(user);
+        userExistenceFilter.add(savedUser.getUsername(), savedUser.getEmail());
+        evictUserKeys(savedUser, null, null);
+        return savedUser;
     }
 
+    /** 이메일/전화번호 변경이 없는 수정 (비밀번호 변경 등) */
     @Transactional
-    @CacheEvict(value = "user", allEntries = true)
     public User updateUser(User user) {
-        return userRepository.save(user);
+        return updateUser(user, null, null);
     }
 
+    /** 프로필 수정 (변경 전 이메일/전화번호 캐시도 함께 제거, unique 제약 조건 확인을 위해 즉시 flush) */
     @Transactional
-    @CacheEvict(value = "user", allEntries = true)
-    public void deleteUser(Long userId) {
-        userRepository.deleteById(userId);
+    public User updateUser(User user, String previousEmail, String previousPhone) {
+        User updatedUser = userRepository.saveAndFlush(user);
+        userExistenceFilter.add(updatedUser.getUsername(), updatedUser.getEmail());
+        evictUserKeys(updatedUser, previousEmail, previousPhone);
+        return updatedUser;
+    }
+
+    @Transactional
+    public void deleteUser(User user) {
+        userRepository.deleteById(user.getId());
+        evictUserKeys(user, null, null);
+    }
+
+    /** 해당 사용자의 id/username/email/phone 캐시 키만 제거 */
+    private void evictUserKeys(User user, String previousEmail, String previousPhone) {
+        Cache cache = cacheManager.getCache(USER_CACHE);
+        if (cache == null) {
+            return;
+        }
+
+        cache.evict("id:" + user.getId());
+        cache.evict("username:" + user.getUsername());
+        evictIfPresent(cache, "email:", user.getEmail());
+        evictIfPresent(cache, "phone:", user.getPhone());
+        evictIfPresent(cache, "email:", previousEmail);
+        evictIfPresent(cache, "phone:", previousPhone);
+    }
+
+    private void evictIfPresent(Cache cache, String prefix, String value) {
+        if (value != null) {
+            cache.evict(prefix + value);
+        }
     }
 
 }
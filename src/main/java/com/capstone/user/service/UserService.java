@@ -1,11 +1,16 @@
 package com.capstone.user.service;
 
+import com.capstone.common.retry.OptimisticRetry;
+import com.capstone.common.util.ETags;
+import com.capstone.common.service.PasswordHashService;
+import com.capstone.member.service.MemberCacheService;
 import com.capstone.user.entity.User;
 import com.capstone.user.dto.*;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,7 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserCacheService userCacheService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashService passwordHashService;
+    private final MemberCacheService memberCacheService;
 
     /** 사용자 생성 */
     @Transactional
@@ -31,13 +37,19 @@ public class UserService {
 
         User user = User.builder()
                 .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHashService.encode(request.getPassword()))
                 .name(request.getName())
                 .phone(request.getPhone())
                 .email(request.getEmail())
                 .build();
 
-        User savedUser = userCacheService.saveUser(user);
+        User savedUser;
+        try {
+            savedUser = userCacheService.saveUser(user);
+        } catch (DataIntegrityViolationException e) {
+            // 존재 필터가 아직 반영되지 않은 노드에서 동시에 가입한 경우
+            throw duplicateValue(e);
+        }
         log.info("사용자 생성 성공: {}", savedUser.getUsername());
 
         return UserInfo.fromEntity(savedUser);
@@ -45,15 +57,26 @@ public class UserService {
 
     /** username으로 프로필 조회 */
     public UserInfo getUserProfile(String username) {
-        User user = userCacheService.getUserByUsername(username)
+        UserSnapshot user = userCacheService.getUserByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        return UserInfo.fromEntity(user);
+        return UserInfo.from(user);
+    }
+
+    /**
+     * 프로필 ETag (캐시된 사용자 정보 사용)
+     * @return 사용자가 없으면 null
+     */
+    public String getUserProfileETag(String username) {
+        return userCacheService.getUserByUsername(username)
+                .map(user -> ETags.of("user", user.getId(), user.getVersion()))
+                .orElse(null);
     }
 
     /** 프로필 수정 */
+    @OptimisticRetry
     @Transactional
     public UserInfo updateUserProfile(String username, UpdateUserRequest request) {
-        User user = userCacheService.getUserByUsername(username)
+        User user = userCacheService.loadUserByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         // 이메일 중붙 검사
@@ -63,8 +86,16 @@ public class UserService {
             }
         }
 
+        String previousEmail = user.getEmail();
+        String previousPhone = user.getPhone();
+
         user.updateProfile(request.getName(), request.getPhone(), request.getEmail());
-        User updatedUser = userCacheService.updateUser(user);
+        User updatedUser;
+        try {
+            updatedUser = userCacheService.updateUser(user, previousEmail, previousPhone);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateValue(e);
+        }
         log.info("프로필 수정 성공: {}", updatedUser.getUsername());
 
         return UserInfo.fromEntity(updatedUser);
@@ -73,15 +104,16 @@ public class UserService {
     /** 프로필 삭제 */
     @Transactional
     public void deleteUserProfile(String username) {
-        User user = userCacheService.getUserByUsername(username)
+        User user = userCacheService.loadUserByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        userCacheService.deleteUser(user.getId());
+        memberCacheService.evictUser(user.getId());
+        userCacheService.deleteUser(user);
         log.info("사용자 삭제 성공: userId={}", user.getId());
     }
 
     /** 아이디 찾기 (전화번호 또는 이메일) */
     public FindUsernameResponse findUsername(FindUsernameRequest request) {
-        User user = null;
+        UserSnapshot user = null;
 
         if (request.getPhone() != null) {
             user = userCacheService.getUserByPhone(request.getPhone()).orElse(null);
@@ -101,9 +133,10 @@ public class UserService {
     }
 
     /** 비밀번호 찾기 (재설정) */
+    @OptimisticRetry
     @Transactional
     public void resetPassword(ResetPasswordRequest request) {
-        User user = userCacheService.getUserByUsername(request.getUsername())
+        User user = userCacheService.loadUserByUsername(request.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         // 이메일 확인
@@ -111,8 +144,31 @@ public class UserService {
             throw new IllegalArgumentException("이메일이 일치하지 않습니다.");
         }
 
-        user.updatePassword(passwordEncoder.encode(request.getNewPassword()));
+        user.updatePassword(passwordHashService.encode(request.getNewPassword()));
         userCacheService.updateUser(user);
         log.info("비밀번호 재설정 성공: {}", user.getUsername());
     }
+
+    /**
+     * unique 제약 조건 위반을 중복 검사와 같은 메시지로 변환
+     * 드라이버/로케일마다 다른 오류 메시지 대신 위반한 제약 조건 이름으로 구분합니다.
+     */
+    private IllegalArgumentException duplicateValue(DataIntegrityViolationException e) {
+        String constraintName = null;
+        for (Throwable cause = e.getCause(); cause != null && constraintName == null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                constraintName = violation.getConstraintName();
+            }
+        }
+        if (User.EMAIL_CONSTRAINT.equalsIgnoreCase(constraintName)) {
+            return new IllegalArgumentException("이미 사용 중인 이메일입니다.");
+        }
+        if (User.PHONE_CONSTRAINT.equalsIgnoreCase(constraintName)) {
+            return new IllegalArgumentException("이미 사용 중인 전화번호입니다.");
+        }
+        if (User.USERNAME_CONSTRAINT.equalsIgnoreCase(constraintName)) {
+            return new IllegalArgumentException("이미 사용 중인 사용자명입니다.");
+        }
+        throw e;
+    }
 }
@@ -0,0 +1,184 @@
+package com.capstone.member.repository;
+
+import com.capstone.member.cache.PinAuthorizationIndex;
+import com.capstone.member.dto.MemberInfo;
+import com.capstone.member.service.MemberCacheService;
+import com.capstone.member.service.MemberService;
+import com.capstone.pin.dto.PinInfo;
+import com.capstone.pin.service.PinCacheService;
+import com.capstone.pin.service.PinService;
+import com.capstone.pin.service.PinTeardownService;
+import com.capstone.user.service.UserCacheService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 멤버 목록(GET /api/members/{pinId})과 사용자 핀 목록(GET /api/pins)이
+ * 응답 DTO 변환까지 SQL 한 번으로 끝나는지 검증합니다.
+ * 권한 확인/응답 변환까지 포함되도록 MemberService/PinService를 통해 확인하며,
+ * 핀 목록은 기한 초과 수 계산도 포함합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({PinService.class, MemberService.class, MemberCacheService.class})
+class MemberListingQueryCountTest {
+
+    private static final int PIN_COUNT = 5;
+    private static final int MEMBERS_PER_PIN = 4;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private PinService pinService;
+
+    @MockitoBean
+    private PinCacheService pinCacheService;
+
+    @MockitoBean
+    private PinTeardownService pinTeardownService;
+
+    @MockitoBean
+    private UserCacheService userCacheService;
+
+    @MockitoBean
+    private PinAuthorizationIndex pinAuthorizationIndex;
+
+    @MockitoBean
+    private MemberBatchRepository memberBatchRepository;
+
+    @MockitoBean
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+    private Long pinId;
+
+    @BeforeEach
+    void setUp() {
+        userId = insertUser("listing-owner");
+        for (int i = 0; i < PIN_COUNT; i++) {
+            Long createdPinId = insertPin("listing-pin-" + i);
+            insertMember(createdPinId, userId, "OWNER");
+            for (int j = 1; j < MEMBERS_PER_PIN; j++) {
+                insertMember(createdPinId, insertUser("listing-member-" + i + "-" + j), "MEMBER");
+            }
+            insertTask(createdPinId, LocalDateTime.now().minusDays(1));
+            insertTask(createdPinId, LocalDateTime.now().plusDays(1));
+            pinId = createdPinId;
+        }
+        entityManager.clear();
+    }
+
+    @Test
+    void pinMemberListingRunsSingleStatement() {
+        Statistics statistics = resetStatistics();
+
+        List<MemberInfo> members = memberService.getMembersByPinId(pinId);
+
+        assertThat(members).hasSize(MEMBERS_PER_PIN);
+        assertThat(members).allSatisfy(member -> {
+            assertThat(member.getPinTitle()).isNotNull();
+            assertThat(member.getUserName()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void userMemberListingRunsSingleStatement() {
+        Statistics statistics = resetStatistics();
+
+        List<MemberInfo> members = memberService.getMembersByUserId(userId);
+
+        assertThat(members).hasSize(PIN_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void userPinListingRunsSingleStatement() {
+        Statistics statistics = resetStatistics();
+
+        List<PinInfo> pins = pinService.getUserPins(userId);
+
+        assertThat(pins).hasSize(PIN_COUNT);
+        assertThat(pins).extracting(PinInfo::getTitle).doesNotContainNull();
+        assertThat(pins).extracting(PinInfo::getOverdueTaskCount).containsOnly(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Statistics resetStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private Long insertUser(String username) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insert(
+                "INSERT INTO users (username, password, name, created_date, updated_date, version) VALUES (?, 'password', ?, ?, ?, 0)",
+                username, username, now, now);
+    }
+
+    private Long insertPin(String title) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insert(
+                "INSERT INTO pins (title, current_member_count, created_at, updated_at, version) VALUES (?, " + MEMBERS_PER_PIN + ", ?, ?, 0)",
+                title, now, now);
+    }
+
+    private void insertMember(Long memberPinId, Long memberUserId, String role) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insert("INSERT INTO members (pin_id, user_id, role, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, 0)",
+                memberPinId, memberUserId, role, now, now);
+    }
+
+    private void insertTask(Long taskPinId, LocalDateTime endDateTime) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insert("INSERT INTO tasks (title, completed, pin_id, end_date_time, created_at, updated_at, version) VALUES ('task', FALSE, ?, ?, ?, ?, 0)",
+                taskPinId, Timestamp.valueOf(endDateTime), now, now);
+    }
+
+    private Long insert(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.capstone.pin.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조건부 UPDATE로 멤버 수를 증가시킬 때 동시 참여에도 최대 인원을 넘지 않는지 검증합니다.
+ * 각 참여는 별도 트랜잭션에서 커밋되도록 테스트 트랜잭션을 사용하지 않습니다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PinRepositoryConcurrencyTest {
+
+    private static final int MAX_MEMBERS = 8;
+    private static final int THREADS = 32;
+    private static final int JOIN_ATTEMPTS = 2_000;
+
+    @Autowired
+    private PinRepository pinRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentJoinsNeverExceedMaxMembers() throws Exception {
+        Long pinId = insertPin();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        AtomicInteger joined = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < JOIN_ATTEMPTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    Integer updated = transactionTemplate.execute(status ->
+                            pinRepository.incrementMemberCountIfBelow(pinId, MAX_MEMBERS));
+                    if (updated != null && updated == 1) {
+                        joined.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(joined.get()).isEqualTo(MAX_MEMBERS);
+        assertThat(currentMemberCount(pinId)).isEqualTo(MAX_MEMBERS);
+    }
+
+    @Test
+    void concurrentJoinsAndLeavesKeepCountWithinBounds() throws Exception {
+        Long pinId = insertPin();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger left = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < JOIN_ATTEMPTS; i++) {
+                boolean join = i % 3 != 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    Integer updated = transactionTemplate.execute(status -> join
+                            ? pinRepository.incrementMemberCountIfBelow(pinId, MAX_MEMBERS)
+                            : pinRepository.decrementMemberCount(pinId));
+                    if (updated != null && updated == 1) {
+                        (join ? joined : left).incrementAndGet();
+                    }
+                    int count = currentMemberCount(pinId);
+                    assertThat(count).isBetween(0, MAX_MEMBERS);
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(currentMemberCount(pinId)).isEqualTo(joined.get() - left.get());
+    }
+
+    private Long insertPin() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO pins (title, current_member_count, created_at, updated_at, version) VALUES (?, 0, ?, ?, 0)",
+                    Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, "concurrency-test");
+            statement.setTimestamp(2, now);
+            statement.setTimestamp(3, now);
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private int currentMemberCount(Long pinId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT current_member_count FROM pins WHERE id = ?", Integer.class, pinId);
+        return count == null ? 0 : count;
+    }
+
+}
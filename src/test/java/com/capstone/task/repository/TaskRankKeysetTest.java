@@ -0,0 +1,126 @@
+package com.capstone.task.repository;
+
+import com.capstone.task.dto.TaskCursor;
+import com.capstone.task.entity.Task;
+import com.capstone.task.enums.TaskSort;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 순서 키(RANK) 정렬의 keyset 페이지네이션이 (rank, id) 순서로 빠짐없이, 중복 없이 이어지는지 검증합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class TaskRankKeysetTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long pinId;
+    private final List<Long> expectedOrder = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        pinId = insertPin("rank-pin");
+        Long otherPinId = insertPin("rank-other-pin");
+
+        // 삽입 순서와 다른 순서 키 (사이에 끼워 넣은 키, 접두사 키, 같은 키 포함)
+        Long last = insertTask(pinId, "0000000003V");
+        Long first = insertTask(pinId, "0000000001V");
+        Long between = insertTask(pinId, "0000000001k");
+        Long prefix = insertTask(pinId, "0000000002");
+        Long tieFirst = insertTask(pinId, "0000000002V");
+        Long tieSecond = insertTask(pinId, "0000000002V");
+        insertTask(otherPinId, "0000000002");
+        expectedOrder.addAll(List.of(first, between, prefix, tieFirst, tieSecond, last));
+        entityManager.clear();
+    }
+
+    @Test
+    void rankPagesFollowRankThenId() {
+        List<Long> pagedIds = new ArrayList<>();
+        TaskCursor cursor = null;
+        while (true) {
+            List<Task> page = taskRepository.findPageByPinId(pinId, TaskSort.RANK, null, null, null, cursor, PAGE_SIZE);
+            page.forEach(task -> pagedIds.add(task.getId()));
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            Task lastOfPage = page.get(page.size() - 1);
+            cursor = new TaskCursor(false, null, lastOfPage.getRank(), lastOfPage.getId());
+        }
+
+        assertThat(pagedIds).containsExactlyElementsOf(expectedOrder);
+    }
+
+    @Test
+    void rankCursorBetweenTiedKeysContinuesById() {
+        Long tieFirst = expectedOrder.get(3);
+        TaskCursor cursor = new TaskCursor(false, null, "0000000002V", tieFirst);
+
+        List<Task> page = taskRepository.findPageByPinId(pinId, TaskSort.RANK, null, null, null, cursor, PAGE_SIZE);
+
+        assertThat(page).extracting(Task::getId).containsExactly(expectedOrder.get(4), expectedOrder.get(5));
+    }
+
+    @Test
+    void rankCursorWithoutRankIsRejected() {
+        TaskCursor cursor = new TaskCursor(false, null, null, expectedOrder.get(0));
+
+        assertThatThrownBy(() -> taskRepository.findPageByPinId(pinId, TaskSort.RANK, null, null, null, cursor, PAGE_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Long insertPin(String title) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insert(
+                "INSERT INTO pins (title, current_member_count, created_at, updated_at, version) VALUES (?, 0, ?, ?, 0)",
+                title, now, now);
+    }
+
+    private Long insertTask(Long taskPinId, String rank) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return insert(
+                "INSERT INTO tasks (title, completed, pin_id, rank, created_at, updated_at, version) VALUES (?, FALSE, ?, ?, ?, ?, 0)",
+                "task-" + rank, taskPinId, rank, now, now);
+    }
+
+    private Long insert(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.capstone.task.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 순서 키 생성이 두 이웃 키 사이의 키를 만들고, 맨 뒤 추가를 반복해도 키 길이가 늘지 않는지 검증합니다.
+ */
+class TaskRanksTest {
+
+    @Test
+    void betweenWithoutBoundsReturnsMiddleDigit() {
+        assertThat(TaskRanks.between(null, null)).isEqualTo("V");
+    }
+
+    @Test
+    void betweenNullLowerIsBeforeUpper() {
+        String rank = TaskRanks.between(null, "1");
+
+        assertThat(rank).isEqualTo("0V");
+        assertThat(rank).isLessThan("1");
+    }
+
+    @Test
+    void betweenNullUpperIsAfterLower() {
+        String rank = TaskRanks.between("z", null);
+
+        assertThat(rank).isEqualTo("zV");
+        assertThat(rank).isGreaterThan("z");
+    }
+
+    @Test
+    void betweenAdjacentDigitsExtendsLowerKey() {
+        String rank = TaskRanks.between("A", "B");
+
+        assertThat(rank).isEqualTo("AV");
+        assertThat(rank).isGreaterThan("A").isLessThan("B");
+    }
+
+    @Test
+    void betweenPrefixKeysUsesNextDigitOfUpper() {
+        String rank = TaskRanks.between("A", "AV");
+
+        assertThat(rank).isEqualTo("AF");
+        assertThat(rank).isGreaterThan("A").isLessThan("AV");
+    }
+
+    @Test
+    void betweenRepeatedInsertKeepsOrder() {
+        String lower = "0000000001V";
+        String upper = "0000000002V";
+        for (int i = 0; i < 100; i++) {
+            String rank = TaskRanks.between(lower, upper);
+            assertThat(rank).isGreaterThan(lower).isLessThan(upper).doesNotEndWith("0");
+            upper = rank;
+        }
+    }
+
+    @Test
+    void betweenRejectsSameOrReversedKeys() {
+        assertThatThrownBy(() -> TaskRanks.between("B", "B")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TaskRanks.between("B", "A")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void afterEmptyPinReturnsInitialKey() {
+        assertThat(TaskRanks.after(null)).isEqualTo(TaskRanks.INITIAL);
+    }
+
+    @Test
+    void afterIncrementsLastDigit() {
+        assertThat(TaskRanks.after("0000000001V")).isEqualTo("0000000001W");
+    }
+
+    @Test
+    void afterCarriesWithoutTrailingZero() {
+        assertThat(TaskRanks.after("Az")).isEqualTo("B1");
+        assertThat(TaskRanks.after("AzV")).isEqualTo("AzW");
+    }
+
+    @Test
+    void afterMaxKeyAppendsInitialKey() {
+        assertThat(TaskRanks.after("zz")).isEqualTo("zz" + TaskRanks.INITIAL);
+    }
+
+    @Test
+    void afterRepeatedAppendKeepsLengthAndOrder() {
+        List<String> ranks = new ArrayList<>();
+        String rank = null;
+        for (int i = 0; i < 10_000; i++) {
+            rank = TaskRanks.after(rank);
+            ranks.add(rank);
+        }
+
+        assertThat(ranks).isSorted().doesNotHaveDuplicates();
+        assertThat(ranks).allSatisfy(key -> {
+            assertThat(key).hasSize(TaskRanks.INITIAL.length());
+            assertThat(key).doesNotEndWith("0");
+        });
+    }
+
+}